@@ -0,0 +1,51 @@
+package com.example.spring_doc.domain.member.member.service;
+
+import com.example.spring_doc.standard.Ut;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// access token 검증 경로 비교
+// ./gradlew jmh -Pjmh.includes=AuthTokenBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuthTokenBenchmark {
+
+    private static final String KEY_STRING = "abcdefghijklmnopqrstuvwxyz1234567890abcdefghijklmnopqrstuvwxyz1234567890";
+
+    private AuthTokenService authTokenService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        authTokenService = new AuthTokenService(KEY_STRING, 60 * 60, 10_000);
+        token = Ut.Jwt.createToken(KEY_STRING, 60 * 60, Map.of("id", 3L, "username", "user1", "r", 0));
+    }
+
+    // 이전 방식: 요청마다 키와 파서를 새로 만들고 isValidToken, getPayload 에서 서명을 두 번 검증
+    @Benchmark
+    public Object verifyTwiceWithFreshParser() {
+        SecretKey secretKey = Keys.hmacShaKeyFor(KEY_STRING.getBytes());
+        Jwts.parser().verifyWith(secretKey).build().parse(token);
+
+        SecretKey secretKey2 = Keys.hmacShaKeyFor(KEY_STRING.getBytes());
+        return Jwts.parser().verifyWith(secretKey2).build().parse(token).getPayload();
+    }
+
+    // 캐시된 파서로 한 번에 검증 + 디코딩
+    @Benchmark
+    public Object verifyOnceWithCachedParser() {
+        return Ut.Jwt.parseClaims(KEY_STRING, token);
+    }
+
+    // 검증된 토큰 캐시 적중 (SHA-256 다이제스트 + 캐시 조회)
+    @Benchmark
+    public Object verifiedTokenCacheHit() {
+        return authTokenService.getPayload(token);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.spring_doc.global;
+
+import com.example.spring_doc.global.security.NoopSecurityUserCarrier;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.annotation.RequestScope;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나에서 Rq 를 쓰는 비용 비교. 필터에서 헤더/쿠키 3번, 컨트롤러에서 1번 읽는 것을 한 요청으로 본다.
+// 두 경우 모두 DispatcherServlet 처럼 요청마다 RequestContextHolder 를 설정/해제한다.
+// ./gradlew jmh -Pjmh.includes=RqBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RqBenchmark {
+
+    // 이전 Rq: request scope 빈이 request/response 프록시를 주입받는다.
+    public static class RequestScopedRq {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+
+        public RequestScopedRq(HttpServletRequest request, HttpServletResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        public String getHeader(String name) {
+            return request.getHeader(name);
+        }
+    }
+
+    @Configuration
+    public static class Config {
+
+        @Bean
+        @RequestScope
+        public RequestScopedRq requestScopedRq(HttpServletRequest request, HttpServletResponse response) {
+            return new RequestScopedRq(request, response);
+        }
+    }
+
+    private AnnotationConfigWebApplicationContext context;
+    private RequestScopedRq requestScopedRq;
+    private Rq rq;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(Config.class);
+        context.refresh();
+
+        requestScopedRq = context.getBean(RequestScopedRq.class);
+        rq = new Rq(new NoopSecurityUserCarrier());
+
+        request = new MockHttpServletRequest("GET", "/api/v1/posts/1");
+        request.addHeader("Authorization", "Bearer user1 token");
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // CGLIB 프록시 -> scope 조회 -> 요청마다 빈 생성, 소멸 콜백 등록
+    @Benchmark
+    public int requestScopedProxy() {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        try {
+            int length = 0;
+
+            for (int i = 0; i < 4; i++) {
+                length += requestScopedRq.getHeader("Authorization").length();
+            }
+
+            return length;
+        } finally {
+            attributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    // 싱글톤 Rq 에 request 를 직접 넘긴다.
+    @Benchmark
+    public int statelessRq() {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request, response);
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        try {
+            int length = 0;
+
+            for (int i = 0; i < 4; i++) {
+                length += rq.getHeader(request, "Authorization").length();
+            }
+
+            return length;
+        } finally {
+            attributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.spring_doc.global.webMvc;
+
+import com.example.spring_doc.global.dto.RsData;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// RsData 의 code 를 응답 상태로 옮기는 비용 비교.
+// 이전: 컨트롤러를 감싼 @Around 프록시가 매 응답마다 code 를 잘라 파싱했다.
+// 현재: ResponseBodyAdvice 가 RsData 에 미리 계산된 상태 코드를 읽는다.
+// ./gradlew jmh -Pjmh.includes=RsDataResponseBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RsDataResponseBenchmark {
+
+    @RestController
+    public static class BenchController {
+
+        @GetMapping("/bench")
+        public RsData<String> item() {
+            return new RsData<>("201-1", "글이 작성되었습니다.", "data");
+        }
+    }
+
+    // 이전 ResponseAspect. 주입받던 HttpServletResponse 프록시 대신 같은 경로(RequestContextHolder)로 response 를 찾는다.
+    @Aspect
+    public static class LegacyResponseAspect {
+
+        @Around("within(@org.springframework.web.bind.annotation.RestController *) && @annotation(org.springframework.web.bind.annotation.GetMapping)")
+        public Object responseAspect(ProceedingJoinPoint joinPoint) throws Throwable {
+            Object rst = joinPoint.proceed();
+
+            if (rst instanceof RsData<?> rsData) {
+                int statusCode = Integer.parseInt(rsData.getCode().split("-")[0]);
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                        .getResponse()
+                        .setStatus(statusCode);
+            }
+
+            return rst;
+        }
+    }
+
+    private MockMvc aspectMockMvc;
+    private MockMvc adviceMockMvc;
+    private RsData<String> rsData;
+
+    @Setup
+    public void setup() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new BenchController());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LegacyResponseAspect());
+
+        aspectMockMvc = MockMvcBuilders.standaloneSetup((Object) proxyFactory.getProxy()).build();
+        adviceMockMvc = MockMvcBuilders.standaloneSetup(new BenchController())
+                .setControllerAdvice(new RsDataResponseAdvice())
+                .build();
+
+        rsData = new RsData<>("201-1", "글이 작성되었습니다.", "data");
+    }
+
+    // 요청 전체(DispatcherServlet -> 핸들러 -> 직렬화)
+    @Benchmark
+    public int aspect() throws Exception {
+        return aspectMockMvc.perform(get("/bench")).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int responseBodyAdvice() throws Exception {
+        return adviceMockMvc.perform(get("/bench")).andReturn().getResponse().getStatus();
+    }
+
+    // 상태 코드 얻기만
+    @Benchmark
+    public int splitStatusCode() {
+        return Integer.parseInt(rsData.getCode().split("-")[0]);
+    }
+
+    @Benchmark
+    public int precomputedStatusCode() {
+        return rsData.getStatusCode();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.spring_doc.standard;
+
+import com.example.spring_doc.domain.post.post.dto.PageDto;
+import com.example.spring_doc.domain.post.post.dto.PostDto;
+import com.example.spring_doc.global.dto.RsData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/v1/posts 응답(RsData<PageDto>, 글 10개) 직렬화 처리량 비교.
+// 두 ObjectMapper 모두 스프링 부트와 같은 방식(Jackson2ObjectMapperBuilder)으로 만들고, Blackbird 모듈 유무만 다르다.
+// ./gradlew jmh -Pjmh.includes=JsonSerializationBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper reflection;
+    private ObjectMapper blackbird;
+    private RsData<PageDto> page;
+    private RsData<Void> error;
+
+    @Setup
+    public void setup() {
+        reflection = Jackson2ObjectMapperBuilder.json().build();
+        blackbird = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PostDto> items = new ArrayList<>();
+
+        for (int i = 1; i <= 10; i++) {
+            items.add(new PostDto(i, now, now, "제목" + i, 1, "유저1", true, true, i));
+        }
+
+        page = new RsData<>("200-1", "글 목록 조회가 완료되었습니다.", new PageDto(items, 10, 100, 1, 10));
+        error = new RsData<>("401-1", "잘못된 인증키입니다.");
+    }
+
+    @Benchmark
+    public byte[] pageReflection() throws Exception {
+        return reflection.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageBlackbird() throws Exception {
+        return blackbird.writeValueAsBytes(page);
+    }
+
+    // 401/403 응답: 매번 직렬화하던 것과 미리 만들어 둔 바이트 배열
+    @Benchmark
+    public byte[] errorSerializedPerRequest() throws Exception {
+        return blackbird.writeValueAsBytes(error);
+    }
+}
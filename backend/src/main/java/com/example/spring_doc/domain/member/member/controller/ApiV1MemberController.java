@@ -6,6 +6,7 @@ import com.example.spring_doc.domain.member.member.service.MemberService;
 import com.example.spring_doc.global.Rq;
 import com.example.spring_doc.global.dto.RsData;
 import com.example.spring_doc.global.exception.ServiceException;
+import com.example.spring_doc.global.security.Actor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -63,15 +64,16 @@ public class ApiV1MemberController {
                 () -> new ServiceException("401-1", "존재하지 않는 아이디입니다.")
         );
 
-        String accessToken = memberService.genAccessToken(member);
-
-        rq.addCookie("accessToken", accessToken);
-        rq.addCookie("apiKey", member.getApiKey());
-
-        if (!member.getPassword().equals(body.password())) {
+        // 비밀번호가 맞았을 때만 토큰을 만든다.
+        if (!memberService.checkPassword(member, body.password())) {
             throw new ServiceException("401-1", "비밀번호가 일치하지 않습니다.");
         }
 
+        String accessToken = memberService.genAccessToken(member);
+
+        rq.addCookie(response, "accessToken", accessToken);
+        rq.addCookie(response, "apiKey", member.getApiKey());
+
         return new RsData<>(
                 "200-1",
                 "%s님 환영합니다.".formatted(member.getNickname()),
@@ -84,9 +86,9 @@ public class ApiV1MemberController {
 
     @Operation(summary = "로그아웃", description = "로그아웃 시 쿠키 삭제")
     @DeleteMapping("/logout")
-    public RsData<Void> logout() {
-        rq.removeCookie("accessToken");
-        rq.removeCookie("apiKey");
+    public RsData<Void> logout(HttpServletResponse response) {
+        rq.removeCookie(response, "accessToken");
+        rq.removeCookie(response, "apiKey");
 
         return new RsData<>("200-1", "로그아웃 되었습니다.");
     }
@@ -95,10 +97,7 @@ public class ApiV1MemberController {
     @SecurityRequirement(name = "bearerAuth")
     @Operation(summary = "내 정보 조회")
     @GetMapping("/me")
-    public RsData<MemberDto> me() {
-
-        Member actor = rq.getActor();
-        Member realActor = rq.getRealActor(actor);
+    public RsData<MemberDto> me(@Actor(real = true) Member realActor) {
 
         return new RsData<>(
                 "200-1",
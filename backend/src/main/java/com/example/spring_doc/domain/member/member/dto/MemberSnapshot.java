@@ -0,0 +1,40 @@
+package com.example.spring_doc.domain.member.member.dto;
+
+import com.example.spring_doc.domain.member.member.entity.Member;
+
+import java.time.LocalDateTime;
+
+// 캐시해 두는 회원 정보. 영속성 컨텍스트와 무관하게 스레드 사이에서 공유된다.
+public record MemberSnapshot(long id,
+                             String username,
+                             String nickname,
+                             String apiKey,
+                             LocalDateTime createdDate,
+                             LocalDateTime modifiedDate,
+                             int roles) {
+
+    public static MemberSnapshot of(Member member) {
+        return new MemberSnapshot(
+                member.getId(),
+                member.getUsername(),
+                member.getNickname(),
+                member.getApiKey(),
+                member.getCreatedDate(),
+                member.getModifiedDate(),
+                member.getRoles()
+        );
+    }
+
+    // 준영속(detached) 상태의 Member. 연관관계의 참조로는 쓸 수 있지만, 변경 감지가 필요하면 다시 조회해야 한다.
+    public Member toMember() {
+        return Member.builder()
+                .id(id)
+                .username(username)
+                .nickname(nickname)
+                .apiKey(apiKey)
+                .createdDate(createdDate)
+                .modifiedDate(modifiedDate)
+                .roles(roles)
+                .build();
+    }
+}
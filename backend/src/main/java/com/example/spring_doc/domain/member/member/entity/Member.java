@@ -1,26 +1,27 @@
 package com.example.spring_doc.domain.member.member.entity;
 
+import com.example.spring_doc.global.entity.BaseEntity;
 import com.example.spring_doc.global.entity.BaseTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 @Entity
+@SequenceGenerator(name = BaseEntity.ID_GENERATOR, sequenceName = "member_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, MemberEntityListener.class})
 public class Member extends BaseTime {
 
     @Column(length = 100, unique = true)
@@ -31,26 +32,16 @@ public class Member extends BaseTime {
     private String apiKey;
     @Column(length = 100)
     private String nickname;
-
+    // MemberRole 비트마스크
+    @ColumnDefault("0")
+    private int roles;
 
     public boolean isAdmin() {
-        return username.equals("admin");
-    }
-
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        return getMemberAuthoritiesAsString()
-                .stream()
-                .map(SimpleGrantedAuthority::new)
-                .toList();
+        return MemberRole.ADMIN.isIn(roles);
     }
 
-    public List<String> getMemberAuthoritiesAsString() {
-        List<String> authorities = new ArrayList<>();
-
-        if (isAdmin()) {
-            authorities.add("ROLE_ADMIN");
-        }
-
-        return authorities;
+    // 역할 조합마다 미리 만들어 둔 목록을 공유한다. 수정하지 말 것.
+    public List<GrantedAuthority> getAuthorities() {
+        return MemberRole.authorities(roles);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.example.spring_doc.domain.member.member.entity;
+
+import com.example.spring_doc.domain.member.member.event.MemberModifiedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Member 는 setter 로 어디서든 바뀔 수 있으므로, 서비스 메서드 대신 flush 시점에 변경을 잡는다.
+// Spring Boot 가 Hibernate 에 SpringBeanContainer 를 등록해 두어 빈으로 생성된다.
+@Component
+@RequiredArgsConstructor
+public class MemberEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    void onModified(Member member) {
+        eventPublisher.publishEvent(new MemberModifiedEvent(member.getId()));
+    }
+}
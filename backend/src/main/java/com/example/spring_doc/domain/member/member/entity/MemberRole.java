@@ -0,0 +1,74 @@
+package com.example.spring_doc.domain.member.member.entity;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 회원 역할. Member.roles 컬럼과 access token 의 "r" claim 에 비트마스크로 저장된다.
+// 비트 위치는 저장된 값의 의미가 되므로 바꾸지 말고 뒤에 추가만 할 것.
+public enum MemberRole {
+    ADMIN(0);
+
+    private static final int ALL;
+    // 비트마스크 조합마다 권한 목록을 미리 만들어 두고 공유한다.
+    private static final List<List<GrantedAuthority>> AUTHORITIES;
+
+    static {
+        int all = 0;
+
+        for (MemberRole role : values()) {
+            all |= role.bit();
+        }
+
+        ALL = all;
+
+        List<List<GrantedAuthority>> authorities = new ArrayList<>();
+
+        for (int roles = 0; roles <= ALL; roles++) {
+            List<GrantedAuthority> list = new ArrayList<>();
+
+            for (MemberRole role : values()) {
+                if (role.isIn(roles)) {
+                    list.add(role.authority);
+                }
+            }
+
+            authorities.add(List.copyOf(list));
+        }
+
+        AUTHORITIES = List.copyOf(authorities);
+    }
+
+    private final int bit;
+    private final GrantedAuthority authority;
+
+    MemberRole(int position) {
+        this.bit = 1 << position;
+        this.authority = new SimpleGrantedAuthority("ROLE_" + name());
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    public boolean isIn(int roles) {
+        return (roles & bit) != 0;
+    }
+
+    public static int toBits(MemberRole... roles) {
+        int bits = 0;
+
+        for (MemberRole role : roles) {
+            bits |= role.bit();
+        }
+
+        return bits;
+    }
+
+    // 모르는 비트(이후 버전에서 추가된 역할 등)는 무시한다.
+    public static List<GrantedAuthority> authorities(int roles) {
+        return AUTHORITIES.get(roles & ALL);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.spring_doc.domain.member.member.event;
+
+// 회원 가입 시 발행. 커밋 이후 통계, apiKey 캐시에 반영된다.
+public record MemberJoinedEvent(long memberId, String apiKey) {
+}
@@ -0,0 +1,5 @@
+package com.example.spring_doc.domain.member.member.event;
+
+// 회원 엔티티가 수정/삭제될 때 발행. 커밋 이후 회원 캐시를 비운다.
+public record MemberModifiedEvent(long memberId) {
+}
@@ -2,6 +2,9 @@ package com.example.spring_doc.domain.member.member.repository;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -9,4 +12,11 @@ public interface MemberRepository extends JpaRepository<Member, Long>{
     Optional<Member> findByUsername(String username);
 
     Optional<Member> findByApiKey(String apiKey);
-}
\ No newline at end of file
+
+    // 비밀번호 컬럼만, 읽었을 때의 값 그대로일 때만 바꾼다. 그 사이의 다른 변경을 덮어쓰지 않는다.
+    // 엔티티를 거치지 않으므로 MemberModifiedEvent 도 나가지 않는다. (캐시에는 비밀번호가 없다)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update Member m set m.password = :newPassword where m.id = :id and m.password = :oldPassword")
+    int updatePassword(long id, String oldPassword, String newPassword);
+}
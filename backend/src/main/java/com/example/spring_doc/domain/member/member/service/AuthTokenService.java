@@ -2,45 +2,105 @@ package com.example.spring_doc.domain.member.member.service;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.standard.Ut;
-import lombok.RequiredArgsConstructor;
+import com.example.spring_doc.standard.cache.TinyLfuCache;
+import com.example.spring_doc.standard.pool.ObjectPool;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 public class AuthTokenService {
 
-    @Value("${custom.jwt.secret-key}")
-    private String keyString;
-    @Value("${custom.jwt.expire-seconds}")
-    private int expireSeconds;
+    private final String keyString;
+    private final int expireSeconds;
+    // 이미 검증한 토큰의 payload. 같은 토큰으로 다시 요청하면 서명 검증 없이 바로 꺼낸다.
+    // 토큰 원문 대신 SHA-256 다이제스트를 키로 두고, 토큰의 exp 에 맞춰 만료된다.
+    private final TinyLfuCache<TokenDigest, Ut.Jwt.AccessTokenClaims> verifiedTokens;
+
+    public AuthTokenService(@Value("${custom.jwt.secret-key}") String keyString,
+                            @Value("${custom.jwt.expire-seconds}") int expireSeconds,
+                            @Value("${custom.jwt.verified-cache.maximum-size}") int verifiedCacheMaximumSize) {
+        this.keyString = keyString;
+        this.expireSeconds = expireSeconds;
+        this.verifiedTokens = new TinyLfuCache<>(
+                verifiedCacheMaximumSize,
+                verifiedCacheMaximumSize,
+                Duration.ofSeconds(expireSeconds),
+                _ -> 1
+        );
+    }
 
     String genAccessToken(Member member) {
 
-        return Ut.Jwt.createToken(
+        return Ut.Jwt.createAccessToken(
                 keyString,
                 expireSeconds,
-                Map.of("id", member.getId(), "username", member.getUsername())
+                member.getId(),
+                member.getUsername(),
+                member.getRoles()
         );
 
     }
 
     Map<String, Object> getPayload(String token) {
+        Ut.Jwt.AccessTokenClaims claims = getAccessTokenClaims(token);
 
-        if (!Ut.Jwt.isValidToken(keyString, token)) {
+        if (claims == null) {
             return null;
         }
 
-        Map<String, Object> payLoad = Ut.Jwt.getPayload(keyString, token);
+        return Map.of("id", claims.id(), "username", claims.username(), "r", claims.roles());
+    }
 
+    Ut.Jwt.AccessTokenClaims getAccessTokenClaims(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        Ut.Jwt.AccessTokenClaims cached = verifiedTokens.get(digest);
 
-        Number idNo = (Number) payLoad.get("id");
-        long id = idNo.longValue();
+        if (cached != null) {
+            return cached;
+        }
+
+        Ut.Jwt.AccessTokenClaims claims = Ut.Jwt.parseAccessToken(keyString, token);
+
+        if (claims == null) {
+            return null;
+        }
 
-        String username = (String) payLoad.get("username");
+        if (claims.expiresAt() > 0) {
+            Duration ttl = Duration.between(Instant.now(), Instant.ofEpochSecond(claims.expiresAt()));
 
-        return Map.of("id", id, "username", username);
+            if (ttl.isPositive()) {
+                verifiedTokens.put(digest, claims, ttl);
+            }
+        }
+
+        return claims;
+    }
+
+    record TokenDigest(long a, long b, long c, long d) {
+
+        // MessageDigest 는 스레드 안전하지 않으므로 빌려 쓴다.
+        private static final ObjectPool<MessageDigest> sha256 = new ObjectPool<>(() -> {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        static TokenDigest of(String token) {
+            MessageDigest digest = sha256.borrow();
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            sha256.release(digest);
+
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
     }
 }
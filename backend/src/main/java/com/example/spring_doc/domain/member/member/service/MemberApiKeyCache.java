@@ -0,0 +1,124 @@
+package com.example.spring_doc.domain.member.member.service;
+
+import com.example.spring_doc.domain.member.member.dto.MemberSnapshot;
+import com.example.spring_doc.domain.member.member.event.MemberJoinedEvent;
+import com.example.spring_doc.domain.member.member.event.MemberModifiedEvent;
+import com.example.spring_doc.domain.member.member.repository.MemberRepository;
+import com.example.spring_doc.standard.cache.TinyLfuCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+// access token 이 만료되어 apiKey 로 재발급할 때 쓰는 apiKey -> 회원 캐시.
+// 없는 apiKey 도 짧게 캐시하고, 재발급한 토큰은 일정 시간 동안 같은 apiKey 요청끼리 나눠 쓴다.
+@Component
+public class MemberApiKeyCache {
+
+    public record Reissued(MemberSnapshot member, String accessToken) {
+    }
+
+    private record IssuedToken(String accessToken, long issuedAt) {
+    }
+
+    private static final class Entry {
+        // null 이면 존재하지 않는 apiKey
+        final MemberSnapshot member;
+        final AtomicReference<IssuedToken> issued = new AtomicReference<>();
+
+        Entry(MemberSnapshot member) {
+            this.member = member;
+        }
+    }
+
+    private static final Entry NOT_FOUND = new Entry(null);
+
+    private final MemberRepository memberRepository;
+    private final AuthTokenService authTokenService;
+    private final TinyLfuCache<String, Entry> cache;
+    private final Duration negativeTtl;
+    private final long reissueIntervalNanos;
+
+    public MemberApiKeyCache(MemberRepository memberRepository,
+                             AuthTokenService authTokenService,
+                             @Value("${custom.member.api-key-cache.maximum-size}") int maximumSize,
+                             @Value("${custom.member.api-key-cache.ttl-seconds}") long ttlSeconds,
+                             @Value("${custom.member.api-key-cache.negative-ttl-seconds}") long negativeTtlSeconds,
+                             @Value("${custom.member.api-key-cache.reissue-interval-seconds}") long reissueIntervalSeconds) {
+        this.memberRepository = memberRepository;
+        this.authTokenService = authTokenService;
+        this.cache = new TinyLfuCache<>(maximumSize, maximumSize, Duration.ofSeconds(ttlSeconds), _ -> 1);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.reissueIntervalNanos = Duration.ofSeconds(reissueIntervalSeconds).toNanos();
+    }
+
+    public Optional<MemberSnapshot> find(String apiKey) {
+        return Optional.ofNullable(getEntry(apiKey).member);
+    }
+
+    // 마지막으로 발급한 토큰이 reissueInterval 안이면 그대로 돌려준다.
+    // 동시에 여러 요청이 들어오면 먼저 등록한 토큰 하나를 모두가 쓴다.
+    public Optional<Reissued> reissue(String apiKey) {
+        Entry entry = getEntry(apiKey);
+
+        if (entry.member == null) {
+            return Optional.empty();
+        }
+
+        long now = System.nanoTime();
+        IssuedToken current = entry.issued.get();
+
+        if (current == null || now - current.issuedAt() >= reissueIntervalNanos) {
+            IssuedToken minted = new IssuedToken(authTokenService.genAccessToken(entry.member.toMember()), now);
+
+            current = entry.issued.compareAndSet(current, minted) ? minted : entry.issued.get();
+        }
+
+        return Optional.of(new Reissued(entry.member, current.accessToken()));
+    }
+
+    private Entry getEntry(String apiKey) {
+        Entry entry = cache.get(apiKey);
+
+        if (entry != null) {
+            return entry;
+        }
+
+        // 읽는 도중 가입/수정으로 무효화되었다면 읽은 값은 캐시에 넣지 않는다.
+        long generation = cache.generation();
+        Optional<MemberSnapshot> opMember = memberRepository.findByApiKey(apiKey).map(MemberSnapshot::of);
+
+        if (opMember.isEmpty()) {
+            cache.put(apiKey, NOT_FOUND, negativeTtl, generation);
+            return NOT_FOUND;
+        }
+
+        entry = new Entry(opMember.get());
+        cache.put(apiKey, entry, generation);
+
+        return entry;
+    }
+
+    // 가입 직전에 '없는 apiKey' 로 캐시되었을 수 있다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberJoined(MemberJoinedEvent event) {
+        invalidate(event.apiKey());
+    }
+
+    // 바뀌기 전 apiKey 를 알 수 없으므로 전부 비운다. 회원 수정은 드물다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberModified(MemberModifiedEvent event) {
+        cache.invalidateAll();
+    }
+
+    public void invalidate(String apiKey) {
+        cache.invalidate(apiKey);
+    }
+
+    public TinyLfuCache.Stats stats() {
+        return cache.stats();
+    }
+}
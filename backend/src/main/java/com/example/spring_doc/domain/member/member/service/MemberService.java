@@ -1,10 +1,16 @@
 package com.example.spring_doc.domain.member.member.service;
 
+import com.example.spring_doc.domain.member.member.dto.MemberSnapshot;
 import com.example.spring_doc.domain.member.member.entity.Member;
+import com.example.spring_doc.domain.member.member.entity.MemberRole;
+import com.example.spring_doc.domain.member.member.event.MemberJoinedEvent;
 import com.example.spring_doc.domain.member.member.repository.MemberRepository;
+import com.example.spring_doc.standard.Ut;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
@@ -14,16 +20,39 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final AuthTokenService authTokenService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberApiKeyCache memberApiKeyCache;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final PasswordHashService passwordHashService;
 
-    public Member join(String username, String password, String nickname) {
+    public Member join(String username, String password, String nickname, MemberRole... roles) {
         Member member = Member.builder()
                 .username(username)
-                .password(password)
+                .password(passwordHashService.encode(password))
                 .apiKey(username)
                 .nickname(nickname)
+                .roles(MemberRole.toBits(roles))
                 .build();
 
-        return memberRepository.save(member);
+        memberRepository.save(member);
+
+        eventPublisher.publishEvent(new MemberJoinedEvent(member.getId(), member.getApiKey()));
+
+        return member;
+    }
+
+    // 평문으로 저장되어 있었거나 해시 강도가 낮아졌다면 맞았을 때 새 해시로 바꿔 저장한다.
+    // 해시하는 동안 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 호출하고, 바꿀 때만 비밀번호 컬럼만 갱신한다.
+    public boolean checkPassword(Member member, String rawPassword) {
+        String storedPassword = member.getPassword();
+        PasswordHashService.Verification verification = passwordHashService.verify(rawPassword, storedPassword);
+
+        if (verification.upgradedHash() != null
+                && memberRepository.updatePassword(member.getId(), storedPassword, verification.upgradedHash()) == 1) {
+            member.setPassword(verification.upgradedHash());
+        }
+
+        return verification.matched();
     }
 
     public long count() {
@@ -38,28 +67,39 @@ public class MemberService {
         return memberRepository.findById(id);
     }
 
+    public Optional<MemberSnapshot> getSnapshot(long id) {
+        return memberSnapshotCache.get(id);
+    }
+
+    public Map<Long, MemberSnapshot> getSnapshots(Collection<Long> ids) {
+        return memberSnapshotCache.getAll(ids);
+    }
+
     public Optional<Member> findByApiKey(String apiKey) {
         return memberRepository.findByApiKey(apiKey);
     }
 
+    // apiKey 로 access token 재발급. 회원 조회와 발급 모두 캐시를 거친다.
+    public Optional<MemberApiKeyCache.Reissued> reissueAccessToken(String apiKey) {
+        return memberApiKeyCache.reissue(apiKey);
+    }
+
     public String getAuthToken(Member member) {
         return member.getApiKey() + " " + authTokenService.genAccessToken(member);
     }
 
     public Optional<Member> getMemberByAccessToken(String accessToken) {
-        Map<String, Object> payload = authTokenService.getPayload(accessToken);
+        Ut.Jwt.AccessTokenClaims claims = authTokenService.getAccessTokenClaims(accessToken);
 
-        if (payload == null) {
+        if (claims == null) {
             return Optional.empty();
         }
 
-        long id = (long) payload.get("id");
-        String username = (String) payload.get("username");
-
         return Optional.of(
                 Member.builder()
-                        .id(id)
-                        .username(username)
+                        .id(claims.id())
+                        .username(claims.username())
+                        .roles(claims.roles())
                         .build()
         );
     }
@@ -0,0 +1,73 @@
+package com.example.spring_doc.domain.member.member.service;
+
+import com.example.spring_doc.domain.member.member.dto.MemberSnapshot;
+import com.example.spring_doc.domain.member.member.event.MemberModifiedEvent;
+import com.example.spring_doc.domain.member.member.repository.MemberRepository;
+import com.example.spring_doc.standard.cache.TinyLfuCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+// id -> 회원 스냅샷 read-through 캐시. 실제 작성자 조회, DTO 의 작성자 이름 채우기에 쓴다.
+@Component
+public class MemberSnapshotCache {
+
+    private final MemberRepository memberRepository;
+    private final TinyLfuCache<Long, MemberSnapshot> cache;
+
+    public MemberSnapshotCache(MemberRepository memberRepository,
+                               @Value("${custom.member.snapshot-cache.maximum-size}") int maximumSize,
+                               @Value("${custom.member.snapshot-cache.ttl-seconds}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = new TinyLfuCache<>(maximumSize, maximumSize, Duration.ofSeconds(ttlSeconds), _ -> 1);
+    }
+
+    // 읽는 도중 회원이 수정되어 무효화되었다면 읽은 값은 캐시에 넣지 않는다. (TinyLfuCache 의 generation)
+    public Optional<MemberSnapshot> get(long id) {
+        return Optional.ofNullable(
+                cache.get(id, _ -> memberRepository.findById(id).map(MemberSnapshot::of).orElse(null))
+        );
+    }
+
+    // 캐시에 없는 회원만 한 번의 in 쿼리로 읽는다.
+    public Map<Long, MemberSnapshot> getAll(Collection<Long> ids) {
+        Map<Long, MemberSnapshot> snapshots = new HashMap<>();
+        Set<Long> missingIds = new HashSet<>();
+
+        for (Long id : ids) {
+            MemberSnapshot snapshot = cache.get(id);
+
+            if (snapshot != null) {
+                snapshots.put(id, snapshot);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (missingIds.isEmpty()) {
+            return snapshots;
+        }
+
+        long generation = cache.generation();
+
+        memberRepository.findAllById(missingIds).forEach(member -> {
+            MemberSnapshot snapshot = MemberSnapshot.of(member);
+            cache.put(snapshot.id(), snapshot, generation);
+            snapshots.put(snapshot.id(), snapshot);
+        });
+
+        return snapshots;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberModified(MemberModifiedEvent event) {
+        cache.invalidate(event.memberId());
+    }
+
+    public TinyLfuCache.Stats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.spring_doc.domain.member.member.service;
+
+import com.example.spring_doc.global.exception.ServiceErrors;
+import com.example.spring_doc.global.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.*;
+
+// 비밀번호 해시/검증. BCrypt 는 CPU 를 오래 쓰므로 요청 스레드가 아닌 코어 수만큼의 전용 스레드에서 돌리고,
+// 대기열이 차면 바로 503 으로 거절해서 로그인이 몰려도 다른 API 가 CPU 를 뺏기지 않게 한다.
+@Slf4j
+@Service
+public class PasswordHashService implements DisposableBean {
+
+    // 검증 결과. 평문으로 저장되어 있었거나 강도가 낮으면 upgradedHash 에 새 해시가 담긴다.
+    public record Verification(boolean matched, String upgradedHash) {
+    }
+
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashService(@Value("${custom.member.password.bcrypt-strength}") int bcryptStrength,
+                               @Value("${custom.member.password.target-millis}") long targetMillis,
+                               @Value("${custom.member.password.max-concurrency}") int maxConcurrency,
+                               @Value("${custom.member.password.queue-capacity}") int queueCapacity,
+                               @Value("${custom.member.password.timeout-millis}") long timeoutMillis) {
+        int strength = bcryptStrength > 0 ? bcryptStrength : calibrate(targetMillis);
+        int threads = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(strength))
+        );
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutMillis = timeoutMillis;
+
+        log.info("password hashing: bcrypt strength {}, {} threads, queue {}", strength, threads, queueCapacity);
+    }
+
+    // 강도를 1 올리면 시간이 두 배가 되므로, MIN_STRENGTH 에서 한 번 재고 목표 시간을 넘지 않는 선까지 올린다.
+    private static int calibrate(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("warm-up");
+
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        int strength = MIN_STRENGTH;
+
+        while (strength < MAX_STRENGTH && elapsedMillis * 2 <= targetMillis) {
+            strength++;
+            elapsedMillis *= 2;
+        }
+
+        return strength;
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public Verification verify(String rawPassword, String storedPassword) {
+        return submit(() -> {
+            if (!isHashed(storedPassword)) {
+                boolean matched = MessageDigest.isEqual(
+                        rawPassword.getBytes(StandardCharsets.UTF_8),
+                        storedPassword.getBytes(StandardCharsets.UTF_8)
+                );
+
+                return new Verification(matched, matched ? passwordEncoder.encode(rawPassword) : null);
+            }
+
+            if (!passwordEncoder.matches(rawPassword, storedPassword)) {
+                return new Verification(false, null);
+            }
+
+            return new Verification(
+                    true,
+                    passwordEncoder.upgradeEncoding(storedPassword) ? passwordEncoder.encode(rawPassword) : null
+            );
+        });
+    }
+
+    // 해시는 {bcrypt} 로 시작한다. 아니면 해시 도입 전에 저장된 평문 ({ 로 시작하는 평문도 있을 수 있다.)
+    private static boolean isHashed(String storedPassword) {
+        return storedPassword != null && storedPassword.startsWith(BCRYPT_PREFIX);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceException(ServiceErrors.TOO_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceException(ServiceErrors.TOO_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceException(ServiceErrors.TOO_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -2,20 +2,26 @@ package com.example.spring_doc.domain.post.comment.controller;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.domain.post.comment.dto.CommentDto;
+import com.example.spring_doc.domain.post.comment.dto.CommentPageDto;
+import com.example.spring_doc.domain.post.comment.dto.CommentsMetaDto;
 import com.example.spring_doc.domain.post.comment.entity.Comment;
+import com.example.spring_doc.domain.post.comment.service.CommentService;
 import com.example.spring_doc.domain.post.post.entity.Post;
 import com.example.spring_doc.domain.post.post.service.PostService;
 import com.example.spring_doc.global.Rq;
 import com.example.spring_doc.global.dto.RsData;
+import com.example.spring_doc.global.exception.ServiceErrors;
 import com.example.spring_doc.global.exception.ServiceException;
+import com.example.spring_doc.global.security.Actor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 
 @SecurityRequirement(name = "bearerAuth")
@@ -26,23 +32,40 @@ import java.util.List;
 public class ApiV1CommentController {
 
     private final PostService postService;
+    private final CommentService commentService;
     private final Rq rq;
 
     @GetMapping
     @Transactional(readOnly = true)
     @Operation(
             summary = "댓글 목록 조회",
-            description = "게시글의 댓글 목록을 가져옵니다."
+            description = "게시글의 댓글을 id 순으로 pageSize 개씩 가져옵니다. 다음 페이지는 nextCursor 를 after 로 넘겨서 조회"
     )
-    public List<CommentDto> getItems(@PathVariable long postId) {
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
+    public CommentPageDto getItems(@PathVariable long postId,
+                                   @RequestParam(defaultValue = "0") long after,
+                                   @RequestParam(defaultValue = "20") int pageSize,
+                                   WebRequest webRequest) {
+
+        if (!postService.exists(postId)) {
+            throw new ServiceException(ServiceErrors.PARENT_POST_NOT_FOUND);
+        }
 
-        return post.getComments()
-                .stream()
-                .map(CommentDto::new)
-                .toList();
+        // 페이지를 읽기 전에 댓글 개수, 최대 id, 마지막 변경 시각만 집계해서 304 로 끝낼 수 있는지 본다.
+        // 글 단위 태그라 어느 댓글이 바뀌어도 모든 페이지가 다시 내려간다.
+        // 중간 댓글이 삭제되면 마지막 변경 시각이 과거로 갈 수 있어 ETag 로만 비교한다.
+        CommentsMetaDto meta = commentService.getMeta(postId);
+
+        if (rq.checkNotModified(webRequest, itemsTag(postId, after, pageSize, meta), null)) {
+            return null;
+        }
+
+        return commentService.getItems(postId, after, pageSize);
+    }
+
+    private String itemsTag(long postId, long after, int pageSize, CommentsMetaDto meta) {
+        return "comments-%d-%d-%d-%d-%s-%s".formatted(
+                postId, after, pageSize, meta.count(), meta.maxId(), meta.lastModifiedDate()
+        );
     }
 
     record WriteReqBody(String content) {
@@ -54,8 +77,7 @@ public class ApiV1CommentController {
             summary = "댓글 작성",
             description = "게시글의 댓글을 작성합니다."
     )
-    public RsData<Void> write(@PathVariable long postId, @RequestBody WriteReqBody body) {
-        Member writer = rq.getActor();
+    public RsData<Void> write(@PathVariable long postId, @RequestBody WriteReqBody body, @Actor Member writer) {
         Comment comment = _write(postId, writer, body.content());
 
         postService.flush();
@@ -66,10 +88,10 @@ public class ApiV1CommentController {
 
     public Comment _write(long postId, Member writer, String content) {
         Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+                () -> new ServiceException(ServiceErrors.PARENT_POST_NOT_FOUND)
         );
 
-        return post.addComment(writer, content);
+        return postService.writeComment(post, writer, content);
     }
 
     @GetMapping("/{id}")
@@ -78,15 +100,29 @@ public class ApiV1CommentController {
             summary = "댓글 상세",
             description = "게시글의 댓글 상세 정보를 가져옵니다."
     )
-    public CommentDto getItem(@PathVariable long postId, @PathVariable long id) {
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
+    public CommentDto getItem(@PathVariable long postId, @PathVariable long id, WebRequest webRequest) {
+
+        if (rq.isConditionalRequest(webRequest)) {
+            LocalDateTime modifiedDate = commentService.getModifiedDate(postId, id).orElse(null);
+
+            if (modifiedDate != null && rq.checkNotModified(webRequest, itemTag(id, modifiedDate), modifiedDate)) {
+                return null;
+            }
+        }
+
+        Comment comment = getComment(postId, id);
+
+        if (!rq.isConditionalRequest(webRequest)) {
+            rq.checkNotModified(webRequest, itemTag(id, comment.getModifiedDate()), comment.getModifiedDate());
+        }
 
-        Comment comment = post.getCommentById(id);
         return new CommentDto(comment);
     }
 
+    private String itemTag(long id, LocalDateTime modifiedDate) {
+        return "comment-%d-%s".formatted(id, modifiedDate);
+    }
+
     record ModifyReqBody(String content) {
     }
 
@@ -96,17 +132,14 @@ public class ApiV1CommentController {
             summary = "댓글 수정",
             description = "게시글의 댓글을 수정합니다."
     )
-    public RsData<Void> modify(@PathVariable long postId, @PathVariable long id, @RequestBody ModifyReqBody body) {
-        Member writer = rq.getActor();
-
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
-
-        Comment comment = post.getCommentById(id);
+    public RsData<Void> modify(@PathVariable long postId,
+                               @PathVariable long id,
+                               @RequestBody ModifyReqBody body,
+                               @Actor Member writer) {
+        Comment comment = getComment(postId, id);
 
         if (comment.canModify(writer)) {
-            comment.modify(body.content());
+            commentService.modify(comment, body.content());
         }
 
 
@@ -121,20 +154,26 @@ public class ApiV1CommentController {
             summary = "댓글 삭제",
             description = "게시글의 댓글을 삭제합니다."
     )
-    public RsData<Void> delete(@PathVariable long postId, @PathVariable long id) {
-
-        Member writer = rq.getActor();
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
+    public RsData<Void> delete(@PathVariable long postId, @PathVariable long id, @Actor Member writer) {
 
-        Comment comment = post.getCommentById(id);
+        Comment comment = getComment(postId, id);
 
         if (comment.canDelete(writer)) {
-            post.deleteComment(comment);
+            commentService.delete(comment);
         }
 
         return new RsData<>("200-1",
                 "%d번 댓글이 삭제되었습니다.".formatted(id));
     }
+
+    // (postId, id) 로 댓글 한 건만 조회. 없을 때만 글이 있는지 확인해서 알맞은 메시지로 응답한다.
+    private Comment getComment(long postId, long id) {
+        return commentService.getItem(postId, id).orElseThrow(() -> {
+            if (!postService.exists(postId)) {
+                return new ServiceException(ServiceErrors.PARENT_POST_NOT_FOUND);
+            }
+
+            return new ServiceException(ServiceErrors.COMMENT_NOT_FOUND);
+        });
+    }
 }
@@ -1,11 +1,14 @@
 package com.example.spring_doc.domain.post.comment.dto;
 
+import com.example.spring_doc.domain.member.member.dto.MemberSnapshot;
 import com.example.spring_doc.domain.post.comment.entity.Comment;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
 @Getter
+@AllArgsConstructor
 public class CommentDto {
     private long id;
     private String content;
@@ -15,6 +18,11 @@ public class CommentDto {
     private LocalDateTime createdTime;
     private LocalDateTime modifiedTime;
 
+    // authorName 은 나중에 withAuthor 로 채운다.
+    public CommentDto(long id, String content, long postId, long authorId, LocalDateTime createdTime, LocalDateTime modifiedTime) {
+        this(id, content, postId, authorId, null, createdTime, modifiedTime);
+    }
+
     public CommentDto(Comment comment) {
         this.id =comment.getId();
         this.content=comment.getContent();
@@ -24,4 +32,12 @@ public class CommentDto {
         this.createdTime=comment.getCreatedDate();
         this.modifiedTime=comment.getModifiedDate();
     }
+
+    public CommentDto withAuthor(MemberSnapshot author) {
+        if (author != null) {
+            this.authorName = author.username();
+        }
+
+        return this;
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.spring_doc.domain.post.comment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentPageDto {
+    private List<CommentDto> items;
+    private int pageSize;
+    private boolean hasNext;
+    // 다음 페이지 요청 시 after 로 넘길 값 (마지막 댓글 id)
+    private Long nextCursor;
+
+    public CommentPageDto(List<CommentDto> items, int pageSize, boolean hasNext) {
+        this.items = items;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+        this.nextCursor = hasNext && !items.isEmpty() ? items.getLast().getId() : null;
+    }
+}
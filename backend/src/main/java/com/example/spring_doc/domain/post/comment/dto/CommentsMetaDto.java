@@ -0,0 +1,8 @@
+package com.example.spring_doc.domain.post.comment.dto;
+
+import java.time.LocalDateTime;
+
+// 조건부 요청(304) 판단용. 글의 댓글 개수, 가장 큰 id, 마지막 변경 시각
+// 작성은 maxId, 삭제는 count, 수정은 lastModifiedDate 를 바꾸므로 어느 페이지든 내용이 바뀌면 셋 중 하나는 바뀐다.
+public record CommentsMetaDto(Long count, Long maxId, LocalDateTime lastModifiedDate) {
+}
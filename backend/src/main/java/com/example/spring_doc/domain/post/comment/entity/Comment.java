@@ -2,15 +2,22 @@ package com.example.spring_doc.domain.post.comment.entity;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.global.entity.BaseEntity;
 import com.example.spring_doc.global.entity.BaseTime;
+import com.example.spring_doc.global.exception.ServiceErrors;
 import com.example.spring_doc.global.exception.ServiceException;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@SequenceGenerator(name = BaseEntity.ID_GENERATOR, sequenceName = "comment_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
+@Table(indexes = @Index(name = "idx_comment_post_id_id", columnList = "post_id, id"))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -31,26 +38,26 @@ public class Comment extends BaseTime {
 
     public boolean canModify(Member writer) {
         if (writer == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw new ServiceException(ServiceErrors.NO_AUTH);
         }
 
         if (writer.isAdmin() || writer.equals(this.getAuthor())) {
             return true;
         }
 
-        throw new ServiceException("403-1", "자신이 작성한 댓글만 수정 가능합니다.");
+        throw new ServiceException(ServiceErrors.COMMENT_MODIFY_FORBIDDEN);
     }
 
     public boolean canDelete(Member writer) {
         if (writer == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw new ServiceException(ServiceErrors.NO_AUTH);
         }
 
         if (writer.isAdmin() || writer.equals(this.getAuthor())) {
             return true;
         }
 
-        throw new ServiceException("403-1", "자신이 작성한 댓글만 수정 가능합니다.");
+        throw new ServiceException(ServiceErrors.COMMENT_MODIFY_FORBIDDEN);
     }
 
 
@@ -0,0 +1,21 @@
+package com.example.spring_doc.domain.post.comment.event;
+
+// 댓글 작성, 수정, 삭제 시 발행. 커밋 이후 통계 등에 반영된다.
+public record CommentChangedEvent(long postId, Type type) {
+
+    public enum Type {
+        WRITTEN, MODIFIED, DELETED
+    }
+
+    public static CommentChangedEvent written(long postId) {
+        return new CommentChangedEvent(postId, Type.WRITTEN);
+    }
+
+    public static CommentChangedEvent modified(long postId) {
+        return new CommentChangedEvent(postId, Type.MODIFIED);
+    }
+
+    public static CommentChangedEvent deleted(long postId) {
+        return new CommentChangedEvent(postId, Type.DELETED);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.spring_doc.domain.post.comment.repository;
+
+import com.example.spring_doc.domain.post.comment.dto.CommentDto;
+import com.example.spring_doc.domain.post.comment.dto.CommentsMetaDto;
+import com.example.spring_doc.domain.post.comment.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // (post_id, id) 인덱스를 타는 커서 조회. 컬렉션을 초기화하지 않고 필요한 만큼만 DTO 로 읽는다.
+    // 작성자는 join 하지 않고 id 만 읽는다. 이름은 회원 스냅샷 캐시에서 채운다.
+    @Query("""
+            select new com.example.spring_doc.domain.post.comment.dto.CommentDto(
+                c.id, c.content, c.post.id, c.author.id, c.createdDate, c.modifiedDate
+            )
+            from Comment c
+            where c.post.id = :postId
+            and c.id > :afterId
+            order by c.id asc
+            """)
+    List<CommentDto> findDtosByPostIdAfter(long postId, long afterId, Pageable pageable);
+
+    // (post_id, id) 인덱스 범위 안에서 집계만 한다.
+    @Query("""
+            select new com.example.spring_doc.domain.post.comment.dto.CommentsMetaDto(count(c), max(c.id), max(c.modifiedDate))
+            from Comment c
+            where c.post.id = :postId
+            """)
+    CommentsMetaDto findMetaByPostId(long postId);
+
+    // 내보내기용. 글 id 순으로 읽어서 글 스트림과 병합한다.
+    @Query("select c from Comment c join fetch c.author order by c.post.id, c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Comment> streamAllByOrderByPostIdAscIdAsc();
+
+    // 댓글 하나와 작성자를 한 번에. 글의 댓글 컬렉션은 건드리지 않는다.
+    @Query("select c from Comment c join fetch c.author where c.post.id = :postId and c.id = :id")
+    Optional<Comment> findWithAuthorByPostIdAndId(long postId, long id);
+
+    // 벌크 update 는 Auditing 이 동작하지 않으므로 변경 시각을 직접 넣는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.content = :content, c.modifiedDate = :modifiedDate where c.id = :id")
+    int updateContent(long id, String content, LocalDateTime modifiedDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.id = :id")
+    int deleteDirectlyById(long id);
+
+    @Query("select c.modifiedDate from Comment c where c.post.id = :postId and c.id = :id")
+    Optional<LocalDateTime> findModifiedDateByPostIdAndId(long postId, long id);
+}
@@ -0,0 +1,83 @@
+package com.example.spring_doc.domain.post.comment.service;
+
+import com.example.spring_doc.domain.member.member.dto.MemberSnapshot;
+import com.example.spring_doc.domain.member.member.service.MemberService;
+import com.example.spring_doc.domain.post.comment.dto.CommentDto;
+import com.example.spring_doc.domain.post.comment.dto.CommentPageDto;
+import com.example.spring_doc.domain.post.comment.dto.CommentsMetaDto;
+import com.example.spring_doc.domain.post.comment.entity.Comment;
+import com.example.spring_doc.domain.post.comment.event.CommentChangedEvent;
+import com.example.spring_doc.domain.post.comment.repository.CommentRepository;
+import com.example.spring_doc.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    // 한 번에 내려주는 댓글 수 상한
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final MemberService memberService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // after 이후(id 기준) 댓글을 pageSize 개. 하나 더 읽어서 다음 페이지 여부를 판단한다.
+    public CommentPageDto getItems(long postId, long after, int pageSize) {
+        int size = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+
+        List<CommentDto> rows = commentRepository.findDtosByPostIdAfter(postId, after, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        List<CommentDto> items = hasNext ? rows.subList(0, size) : rows;
+
+        Map<Long, MemberSnapshot> authors = memberService.getSnapshots(
+                items.stream().map(CommentDto::getAuthorId).collect(Collectors.toSet())
+        );
+        items.forEach(item -> item.withAuthor(authors.get(item.getAuthorId())));
+
+        return new CommentPageDto(items, size, hasNext);
+    }
+
+    public CommentsMetaDto getMeta(long postId) {
+        return commentRepository.findMetaByPostId(postId);
+    }
+
+    public Optional<Comment> getItem(long postId, long id) {
+        return commentRepository.findWithAuthorByPostIdAndId(postId, id);
+    }
+
+    // 조회한 엔티티를 고치지 않고 update 문 하나로 수정
+    public void modify(Comment comment, String content) {
+        commentRepository.updateContent(comment.getId(), content, LocalDateTime.now());
+
+        eventPublisher.publishEvent(CommentChangedEvent.modified(comment.getPost().getId()));
+    }
+
+    // 글의 댓글 컬렉션(orphanRemoval)을 거치지 않고 delete 문 하나로 삭제
+    public void delete(Comment comment) {
+        long postId = comment.getPost().getId();
+
+        // 동시에 같은 댓글을 지운 경우 한 번만 감소
+        if (commentRepository.deleteDirectlyById(comment.getId()) == 0) {
+            return;
+        }
+
+        postRepository.addCommentCount(postId, -1);
+
+        eventPublisher.publishEvent(CommentChangedEvent.deleted(postId));
+    }
+
+    public Optional<LocalDateTime> getModifiedDate(long postId, long id) {
+        return commentRepository.findModifiedDateByPostIdAndId(postId, id);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.spring_doc.domain.post.post.controller;
+
+import com.example.spring_doc.domain.post.post.dto.PostImportResultDto;
+import com.example.spring_doc.domain.post.post.service.PostDetailCache;
+import com.example.spring_doc.domain.post.post.service.PostExportService;
+import com.example.spring_doc.domain.post.post.service.PostImportService;
+import com.example.spring_doc.domain.post.post.service.PostListingCache;
+import com.example.spring_doc.global.dto.RsData;
+import com.example.spring_doc.standard.cache.OffHeapLruCache;
+import com.example.spring_doc.standard.cache.TinyLfuCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "ApiV1AdmPostController", description = "관리자용 글 관련 API")
+@RestController
+@RequestMapping("/api/v1/adm/posts")
+@RequiredArgsConstructor
+public class ApiV1AdmPostController {
+
+    private final PostListingCache postListingCache;
+    private final PostDetailCache postDetailCache;
+    private final PostExportService postExportService;
+    private final PostImportService postImportService;
+
+    @Operation(summary = "글 목록 캐시 통계", description = "hit/miss/eviction 수와 사용 중인 바이트 수")
+    @GetMapping("/listing-cache")
+    public RsData<TinyLfuCache.Stats> getListingCacheStats() {
+        return new RsData<>(
+                "200-1",
+                "글 목록 캐시 통계 조회가 완료되었습니다.",
+                postListingCache.stats()
+        );
+    }
+
+    @Operation(summary = "글 상세 캐시 통계", description = "힙 밖 메모리 사용량과 hit/miss/eviction 수")
+    @GetMapping("/detail-cache")
+    public RsData<OffHeapLruCache.Stats> getDetailCacheStats() {
+        return new RsData<>(
+                "200-1",
+                "글 상세 캐시 통계 조회가 완료되었습니다.",
+                postDetailCache.stats()
+        );
+    }
+
+    @Operation(
+            summary = "글 내보내기",
+            description = "전체 글을 한 줄에 하나씩 JSON(NDJSON)으로 내려준다. withComments=true 면 댓글 포함")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "false") boolean withComments) {
+
+        // 응답은 요청 스레드가 아니라 비동기로 쓰이므로 트랜잭션은 서비스에서 연다.
+        StreamingResponseBody body = out -> postExportService.export(out, withComments);
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(body);
+    }
+
+    @Operation(
+            summary = "글 가져오기",
+            description = "글 배열(댓글 포함 가능)을 스트리밍으로 읽어 청크 단위 트랜잭션으로 저장하고 청크별 처리량을 알려준다.")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public RsData<PostImportResultDto> importPosts(InputStream body) throws IOException {
+
+        // 본문 전체를 객체로 바인딩하지 않도록 InputStream 으로 받는다.
+        PostImportResultDto result = postImportService.importPosts(body);
+
+        return new RsData<>(
+                "201-1",
+                "%d개의 글을 가져왔습니다.".formatted(result.postCount()),
+                result
+        );
+    }
+}
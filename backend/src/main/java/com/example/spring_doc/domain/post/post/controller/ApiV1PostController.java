@@ -2,22 +2,37 @@ package com.example.spring_doc.domain.post.post.controller;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.domain.member.member.service.MemberService;
+import com.example.spring_doc.domain.post.post.dto.CursorPageDto;
 import com.example.spring_doc.domain.post.post.dto.PageDto;
+import com.example.spring_doc.domain.post.post.dto.PostDto;
+import com.example.spring_doc.domain.post.post.dto.PostMetaDto;
 import com.example.spring_doc.domain.post.post.dto.PostWithContentDto;
 import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.domain.post.post.service.PostDetailCache;
+import com.example.spring_doc.domain.post.post.service.PostListingCache;
 import com.example.spring_doc.domain.post.post.service.PostService;
+import com.example.spring_doc.domain.statistics.statistics.dto.StatisticsDto;
+import com.example.spring_doc.domain.statistics.statistics.service.StatisticsService;
 import com.example.spring_doc.global.Rq;
 import com.example.spring_doc.global.dto.RsData;
+import com.example.spring_doc.global.exception.ServiceErrors;
 import com.example.spring_doc.global.exception.ServiceException;
+import com.example.spring_doc.global.security.Actor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "ApiV1PostController", description = "글 관련 API")
@@ -27,17 +42,15 @@ import org.springframework.web.bind.annotation.*;
 public class ApiV1PostController {
 
     private final PostService postService;
+    private final PostListingCache postListingCache;
+    private final PostDetailCache postDetailCache;
     private final Rq rq;
     private final MemberService memberService;
+    private final StatisticsService statisticsService;
 
-    record StatisticsResBody(long postCount, long postPublishedCount, long postListedCount) {
-    }
-
-    @Operation(summary = "통계 조회")
+    @Operation(summary = "통계 조회", description = "메모리 카운터 값이라 조회 비용이 글 수와 무관")
     @GetMapping("/statistics")
-    public RsData<StatisticsResBody> getStatistics() {
-
-        Member actor = rq.getActor();
+    public RsData<StatisticsDto> getStatistics(@Actor Member actor) {
 
         if (!actor.isAdmin()) {
             return new RsData<>(
@@ -49,11 +62,7 @@ public class ApiV1PostController {
         return new RsData<>(
                 "200-1",
                 "통계 조회가 완료되었습니다.",
-                new StatisticsResBody(
-                        10,
-                        10,
-                        10
-                )
+                statisticsService.getStatistics()
         );
     }
 
@@ -62,19 +71,87 @@ public class ApiV1PostController {
             summary = "글 목록 조회",
             description = "페이징 처리와 검색 기능")
     @GetMapping
-    @Transactional(readOnly = true)
     public RsData<PageDto> getItems(@RequestParam(defaultValue = "1") int page,
                                     @RequestParam(defaultValue = "3") int pageSize,
                                     @RequestParam(defaultValue = "title") SearchKeywordType keywordType,
-                                    @RequestParam(defaultValue = "") String keyword) {
-        Page<Post> postPage = postService.getListedItems(page, pageSize, keywordType, keyword);
+                                    @RequestParam(defaultValue = "") String keyword,
+                                    WebRequest webRequest,
+                                    HttpServletResponse response) throws IOException {
 
-        return new RsData<>(
-                "200-1",
-                "글 목록 조회가 완료되었습니다.",
-                new PageDto(postPage)
+        // 캐시 적중 시 트랜잭션(커넥션)도 잡지 않도록 메서드에 @Transactional 을 두지 않는다.
+        // 캐시에 담긴 직렬화된 응답을 그대로 쓰므로 반환값은 없다. (문서의 응답 형식은 RsData<PageDto>)
+        PostListingCache.Key key = new PostListingCache.Key(page, pageSize, keywordType, keyword);
+
+        // 조건부 요청이면 페이지를 읽기 전에 전체 개수와 그 페이지 글들의 id, 변경 시각, 댓글 수만 조회해서 304 로 끝낼 수 있는지 본다.
+        // 목록은 글이 삭제되면 마지막 변경 시각이 오히려 과거로 갈 수 있어 ETag 로만 비교한다.
+        String checkedTag = null;
+
+        if (rq.isConditionalRequest(webRequest)) {
+            Page<PostMetaDto> metaPage = postService.getListedItemsMeta(page, pageSize, keywordType, keyword);
+            checkedTag = listingTag(metaPage.getTotalElements(), metaPage.getContent());
+
+            if (rq.checkNotModified(webRequest, checkedTag, null)) {
+                return null;
+            }
+        }
+
+        PostListingCache.Entry entry = getListingEntry(key);
+
+        if (checkedTag == null) {
+            rq.checkNotModified(webRequest, entry.tag(), null);
+        } else if (!checkedTag.equals(entry.tag())) {
+            // 방금 확인한 DB 와 다르면 캐시가 낡은 것(댓글 수 등 TTL 로만 반영되는 변경)이므로 다시 읽는다.
+            postListingCache.invalidate(key);
+            entry = getListingEntry(key);
+        }
+
+        rq.writeJson(response, 200, entry.body());
+
+        return null;
+    }
+
+    private PostListingCache.Entry getListingEntry(PostListingCache.Key key) {
+        return postListingCache.get(
+                key,
+                () -> {
+                    Page<PostDto> postPage = postService.getListedItems(key.page(), key.pageSize(), key.keywordType(), key.keyword());
+
+                    return new RsData<>(
+                            "200-1",
+                            "글 목록 조회가 완료되었습니다.",
+                            new PageDto(postPage)
+                    );
+                },
+                pageDto -> listingTag(
+                        pageDto.getTotalItems(),
+                        pageDto.getItems()
+                                .stream()
+                                .map(postDto -> new PostMetaDto(postDto.getId(), postDto.getModifiedDate(), postDto.isPublished(), postDto.getCommentCount()))
+                                .toList()
+                )
         );
+    }
+
+    // 페이지에 담긴 글들의 id, 변경 시각, 댓글 수와 전체 개수로 만든 태그.
+    // 조건부 요청에서는 PostMetaDto 만 조회해서 만들고, 캐시에 넣을 때는 읽은 PageDto 로 만든다.
+    private String listingTag(long totalItems, List<PostMetaDto> items) {
+        long hash = totalItems;
+        LocalDateTime lastModified = null;
+
+        for (PostMetaDto meta : items) {
+            hash = hash * 31 + meta.id();
+            hash = hash * 31 + meta.modifiedDate().hashCode();
+            hash = hash * 31 + meta.commentCount();
 
+            if (lastModified == null || meta.modifiedDate().isAfter(lastModified)) {
+                lastModified = meta.modifiedDate();
+            }
+        }
+
+        return "posts-%s-%s".formatted(
+                lastModified == null ? "0" : lastModified.toString(),
+                Long.toHexString(hash)
+        );
     }
 
     @Operation(
@@ -86,10 +163,10 @@ public class ApiV1PostController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "3") int pageSize,
             @RequestParam(defaultValue = "title") SearchKeywordType keywordType,
-            @RequestParam(defaultValue = "") String keyword) {
+            @RequestParam(defaultValue = "") String keyword,
+            @Actor Member actor) {
 
-        Member actor = rq.getActor();
-        Page<Post> pagePost = postService.getMines(actor, page, pageSize, SearchKeywordType.TITLE, keyword);
+        Page<PostDto> pagePost = postService.getMines(actor, page, pageSize, keywordType, keyword);
 
         return new RsData<>(
                 "200-1",
@@ -98,14 +175,78 @@ public class ApiV1PostController {
         );
     }
 
+    @Operation(
+            summary = "글 목록 조회 - 커서",
+            description = "after(다음 페이지) 또는 before(이전 페이지) 커서로 조회. 전체 개수는 제공하지 않음")
+    @GetMapping("/cursor")
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto> getItemsByCursor(@RequestParam(defaultValue = "3") int pageSize,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(required = false) String before) {
+
+        return new RsData<>(
+                "200-1",
+                "글 목록 조회가 완료되었습니다.",
+                postService.getListedItemsByCursor(pageSize, after, before)
+        );
+    }
+
+    @Operation(
+            summary = "내 글 목록 조회 - 커서",
+            description = "after(다음 페이지) 또는 before(이전 페이지) 커서로 조회. 전체 개수는 제공하지 않음")
+    @GetMapping("/me/cursor")
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto> getMinesByCursor(@RequestParam(defaultValue = "3") int pageSize,
+                                                  @RequestParam(required = false) String after,
+                                                  @RequestParam(required = false) String before,
+                                                  @Actor Member actor) {
+
+        return new RsData<>(
+                "200-1",
+                "내 글 목록 조회가 완료되었습니다.",
+                postService.getMinesByCursor(actor, pageSize, after, before)
+        );
+    }
+
     @Operation(
             summary = "글 단건 조회",
             description = "비밀글은 작성자만 조회 가능 ")
     @GetMapping("/{id}")
-    @Transactional(readOnly = true)
-    public RsData<PostWithContentDto> getItem(@PathVariable long id) {
-        Post post = postService.getItem(id).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
+    public RsData<PostWithContentDto> getItem(@PathVariable long id,
+                                              WebRequest webRequest,
+                                              HttpServletResponse response) throws IOException {
+
+        // 공개 글은 힙 밖 캐시에 저장된 응답 바이트를 그대로 내보낸다. 적중 시 트랜잭션도 열지 않는다.
+        try (PostDetailCache.Hit cached = postDetailCache.get(id)) {
+            if (cached != null) {
+                if (!rq.checkNotModified(webRequest, cached.tag(), cached.lastModifiedMillis())) {
+                    cached.writeTo(response);
+                }
+
+                return null;
+            }
+        }
+
+        // 조건부 요청이면 본문을 읽기 전에 변경 시각만 조회해서 304 로 끝낼 수 있는지 본다.
+        // 비공개 글은 권한 확인이 필요하므로 대상이 아니다.
+        boolean conditionChecked = false;
+
+        if (rq.isConditionalRequest(webRequest)) {
+            PostMetaDto meta = postService.getItemMeta(id).orElse(null);
+
+            if (meta != null && meta.published()) {
+                conditionChecked = true;
+
+                if (rq.checkNotModified(webRequest, itemTag(id, meta.modifiedDate(), meta.commentCount()), meta.modifiedDate())) {
+                    return null;
+                }
+            }
+        }
+
+        long generation = postDetailCache.generation();
+
+        Post post = postService.getItemWithAuthor(id).orElseThrow(
+                () -> new ServiceException(ServiceErrors.POST_NOT_FOUND)
         );
 
         // 비공개 글인 경우에만 인증을 하고 읽어본다. 공개글인 경우 로그인 하지 않은 사람도 확인 가능
@@ -114,11 +255,25 @@ public class ApiV1PostController {
             post.canRead(actor);
         }
 
-        return new RsData<>(
+        RsData<PostWithContentDto> rsData = new RsData<>(
                 "200-1",
                 "%d번 글을 조회하였습니다.".formatted(id),
                 new PostWithContentDto(post)
         );
+        String tag = itemTag(id, post.getModifiedDate(), post.getCommentCount());
+        postDetailCache.put(rsData, tag, generation);
+
+        // 공개 글만 ETag, Last-Modified 를 내려준다.
+        if (post.isPublished() && !conditionChecked) {
+            rq.checkNotModified(webRequest, tag, post.getModifiedDate());
+        }
+
+        return rsData;
+    }
+
+    // 댓글 수는 글의 변경 시각을 바꾸지 않으므로 태그에 함께 넣는다.
+    private String itemTag(long id, LocalDateTime modifiedDate, long commentCount) {
+        return "post-%d-%s-%d".formatted(id, modifiedDate, commentCount);
     }
 
     record WriteReqBody(@NotBlank String title,
@@ -133,14 +288,8 @@ public class ApiV1PostController {
             summary = "글 작성",
             description = "로그인 한 사용자만 글 작성 가능"
     )
-    public RsData<PostWithContentDto> write(@Valid @RequestBody WriteReqBody body) {
-
-        Member actor = rq.getActor();
-        Member realActor = rq.getRealActor(actor);
-
-//        Member actor=Member.builder()
-//                .id(1L)
-//                .build();
+    public RsData<PostWithContentDto> write(@Valid @RequestBody WriteReqBody body,
+                                            @Actor(real = true) Member realActor) {
 
         Post post = postService.write(realActor, body.title(), body.content(), body.published(), body.listed());
 
@@ -161,11 +310,11 @@ public class ApiV1PostController {
             description = "작성자와 관리자만 글 수정 가능"
     )
     public RsData<PostWithContentDto> modify(@Valid @RequestBody ModifyReqBody body,
-                                             @PathVariable long id) {
-        Member actor = rq.getActor();
+                                             @PathVariable long id,
+                                             @Actor Member actor) {
 
         Post post = postService.getItem(id).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
+                () -> new ServiceException(ServiceErrors.POST_NOT_FOUND)
         );
 
         if (post.canModify(actor)) {
@@ -185,11 +334,10 @@ public class ApiV1PostController {
             summary = "글 삭제",
             description = "작성자와 관리자만 글 삭제 가능"
     )
-    public RsData<Void> delete(@PathVariable long id) {
-        Member actor = rq.getActor();
+    public RsData<Void> delete(@PathVariable long id, @Actor Member actor) {
 
         Post post = postService.getItem(id).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
+                () -> new ServiceException(ServiceErrors.POST_NOT_FOUND)
         );
 
         if (post.canDelete(actor)) {
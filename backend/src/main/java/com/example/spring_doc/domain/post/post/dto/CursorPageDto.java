@@ -0,0 +1,24 @@
+package com.example.spring_doc.domain.post.post.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorPageDto {
+    private List<PostDto> items;
+    private int pageSize;
+    private boolean hasNext;
+    private boolean hasPrev;
+    private String nextCursor;
+    private String prevCursor;
+
+    public CursorPageDto(List<PostDto> items, int pageSize, boolean hasNext, boolean hasPrev) {
+        this.items = items;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+        this.hasPrev = hasPrev;
+        this.nextCursor = hasNext && !items.isEmpty() ? PostCursor.of(items.getLast()).encode() : null;
+        this.prevCursor = hasPrev && !items.isEmpty() ? PostCursor.of(items.getFirst()).encode() : null;
+    }
+}
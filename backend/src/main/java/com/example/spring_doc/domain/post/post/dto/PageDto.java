@@ -1,6 +1,5 @@
 package com.example.spring_doc.domain.post.post.dto;
 
-import com.example.spring_doc.domain.post.post.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -16,10 +15,8 @@ public class PageDto {
     private int currentPageNo;
     private int pageSize;
 
-    public PageDto(Page<Post> postPage) {
-        this.items = postPage.getContent().stream()
-                .map(PostDto::new)
-                .toList();
+    public PageDto(Page<PostDto> postPage) {
+        this.items = postPage.getContent();
         this.totalPages = postPage.getTotalPages();
         this.totalItems = (int) postPage.getTotalElements();
         this.currentPageNo = postPage.getNumber() + 1;
@@ -0,0 +1,34 @@
+package com.example.spring_doc.domain.post.post.dto;
+
+import com.example.spring_doc.global.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 마지막으로 본 글의 (createdDate, id). 클라이언트에는 불투명한 문자열로만 전달한다.
+public record PostCursor(LocalDateTime createdDate, long id) {
+
+    public static PostCursor of(PostDto post) {
+        return new PostCursor(post.getCreatedDate(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdDate + "_" + id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] bits = raw.split("_");
+
+            return new PostCursor(LocalDateTime.parse(bits[0]), Long.parseLong(bits[1]));
+        } catch (RuntimeException e) {
+            throw new ServiceException("400-2", "잘못된 커서입니다.");
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.spring_doc.domain.post.post.dto;
 
 import com.example.spring_doc.domain.post.post.entity.Post;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
 @Getter
+@AllArgsConstructor // PostRepository 의 select new 프로젝션에서 사용
 public class PostDto {
 
     private long id;
@@ -16,6 +18,7 @@ public class PostDto {
     private String authorName;
     private boolean published;
     private boolean listed;
+    private long commentCount;
 
     public PostDto(Post post) {
         this.id = post.getId();
@@ -26,5 +29,6 @@ public class PostDto {
         this.authorName = post.getAuthor().getNickname();
         this.published = post.isPublished();
         this.listed = post.isListed();
+        this.commentCount = post.getCommentCount();
     }
 }
@@ -0,0 +1,14 @@
+package com.example.spring_doc.domain.post.post.dto;
+
+import com.example.spring_doc.domain.post.comment.dto.CommentDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+// 내보내기(NDJSON) 한 줄. 댓글을 함께 내보내지 않으면 comments 는 생략
+public record PostExportDto(
+        @JsonUnwrapped PostWithContentDto post,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<CommentDto> comments
+) {
+}
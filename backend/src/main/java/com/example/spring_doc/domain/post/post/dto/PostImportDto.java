@@ -0,0 +1,16 @@
+package com.example.spring_doc.domain.post.post.dto;
+
+import java.util.List;
+
+// 가져오기(bulk import) 요청 배열의 원소 하나
+public record PostImportDto(
+        long authorId,
+        String title,
+        String content,
+        boolean published,
+        boolean listed,
+        List<CommentImportDto> comments
+) {
+    public record CommentImportDto(long authorId, String content) {
+    }
+}
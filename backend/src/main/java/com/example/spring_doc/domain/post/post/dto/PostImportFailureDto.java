@@ -0,0 +1,10 @@
+package com.example.spring_doc.domain.post.post.dto;
+
+// 가져오기가 중간에 실패했을 때 응답 data.
+// 앞선 청크는 이미 커밋되어 있으므로 failedIndex(1부터)번째 글부터 다시 보내면 된다.
+public record PostImportFailureDto(
+        long failedIndex,
+        long committedPostCount,
+        long committedCommentCount
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.spring_doc.domain.post.post.dto;
+
+import java.util.List;
+
+public record PostImportResultDto(
+        long postCount,
+        long commentCount,
+        long elapsedMillis,
+        double rowsPerSecond,
+        List<Chunk> chunks
+) {
+    // 청크(트랜잭션) 하나의 처리량
+    public record Chunk(int no, int postCount, int commentCount, long elapsedMillis, double rowsPerSecond) {
+    }
+
+    public static double rowsPerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.spring_doc.domain.post.post.dto;
+
+import java.time.LocalDateTime;
+
+// 조건부 요청(304) 판단용. 본문 없이 변경 시각만 조회
+public record PostMetaDto(long id, LocalDateTime modifiedDate, boolean published, long commentCount) {
+}
@@ -2,17 +2,27 @@ package com.example.spring_doc.domain.post.post.entity;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.domain.post.comment.entity.Comment;
+import com.example.spring_doc.global.entity.BaseEntity;
 import com.example.spring_doc.global.entity.BaseTime;
+import com.example.spring_doc.global.exception.ServiceErrors;
 import com.example.spring_doc.global.exception.ServiceException;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 @Entity
+@SequenceGenerator(name = BaseEntity.ID_GENERATOR, sequenceName = "post_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
+@DynamicUpdate // 변경된 컬럼만 update 해서 commentCount 를 옛 값으로 덮어쓰지 않도록
+@Table(indexes = {
+        @Index(name = "idx_post_listed_created_date_id", columnList = "listed, created_date, id"),
+        @Index(name = "idx_post_author_created_date_id", columnList = "author_id, created_date, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -27,6 +37,10 @@ public class Post extends BaseTime {
     private boolean published;
     private boolean listed;
 
+    // 댓글 수 (비정규화). PostRepository.addCommentCount 로만 증감한다.
+    @ColumnDefault("0")
+    private long commentCount;
+
     @OneToMany(mappedBy = "post", cascade = {CascadeType.REMOVE, CascadeType.PERSIST}, orphanRemoval = true)
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
@@ -43,41 +57,28 @@ public class Post extends BaseTime {
         return comment;
     }
 
-    public Comment getCommentById(long commentId) {
-        return comments.stream()
-                .filter(c -> c.getId() == commentId)
-                .findFirst()
-                .orElseThrow(
-                        () -> new ServiceException("404-2", "해당 댓글은 존재하지 않습니다.")
-                );
-    }
-
-    public void deleteComment(Comment comment) {
-        this.comments.remove(comment);
-    }
-
     public boolean canModify(Member writer) {
         if (writer == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw new ServiceException(ServiceErrors.NO_AUTH);
         }
 
         if (writer.isAdmin() || writer.equals(this.getAuthor())) {
             return true;
         }
 
-        throw new ServiceException("403-1", "자신이 작성한 글만 수정 가능합니다.");
+        throw new ServiceException(ServiceErrors.POST_MODIFY_FORBIDDEN);
     }
 
     public boolean canDelete(Member writer) {
         if (writer == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw new ServiceException(ServiceErrors.NO_AUTH);
         }
 
         if (writer.isAdmin() || writer.equals(this.getAuthor())) {
             return true;
         }
 
-        throw new ServiceException("403-1", "자신이 작성한 글만 삭제 가능합니다.");
+        throw new ServiceException(ServiceErrors.POST_DELETE_FORBIDDEN);
     }
 
     public void canRead(Member writer) {
@@ -85,7 +86,7 @@ public class Post extends BaseTime {
             return;
         }
 
-        throw new ServiceException("403-1", "비공개 설정된 글입니다.");
+        throw new ServiceException(ServiceErrors.POST_READ_FORBIDDEN);
     }
 
     public Comment getLatestComment() {
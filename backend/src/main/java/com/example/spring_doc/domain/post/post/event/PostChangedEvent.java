@@ -0,0 +1,44 @@
+package com.example.spring_doc.domain.post.post.event;
+
+import com.example.spring_doc.domain.post.post.entity.Post;
+
+// 글 작성(before == null), 수정, 삭제(after == null) 시 발행. 커밋 이후 검색 색인 등에 반영된다.
+// 글을 지우면 댓글은 cascade 로 함께 지워지고 댓글 이벤트는 따로 나가지 않으므로, 지워진 댓글 수를 deletedCommentCount 에 담는다.
+public record PostChangedEvent(PostSnapshot before, PostSnapshot after, long deletedCommentCount) {
+
+    public record PostSnapshot(long id,
+                               long authorId,
+                               String title,
+                               String content,
+                               boolean published,
+                               boolean listed) {
+
+        public static PostSnapshot of(Post post) {
+            return new PostSnapshot(
+                    post.getId(),
+                    post.getAuthor().getId(),
+                    post.getTitle(),
+                    post.getContent(),
+                    post.isPublished(),
+                    post.isListed()
+            );
+        }
+    }
+
+    public static PostChangedEvent written(Post post) {
+        return new PostChangedEvent(null, PostSnapshot.of(post), 0);
+    }
+
+    public static PostChangedEvent modified(PostSnapshot before, Post post) {
+        return new PostChangedEvent(before, PostSnapshot.of(post), 0);
+    }
+
+    // cascade 삭제를 위해 댓글 목록은 이미 로딩되어 있다.
+    public static PostChangedEvent deleted(Post post) {
+        return new PostChangedEvent(PostSnapshot.of(post), null, post.getComments().size());
+    }
+
+    public long postId() {
+        return before != null ? before.id() : after.id();
+    }
+}
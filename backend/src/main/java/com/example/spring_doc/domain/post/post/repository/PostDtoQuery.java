@@ -0,0 +1,23 @@
+package com.example.spring_doc.domain.post.post.repository;
+
+import com.example.spring_doc.domain.post.post.dto.PostCursor;
+import lombok.Builder;
+
+import java.util.Collection;
+
+// PostDto 목록 조회 조건. null 인 조건은 붙이지 않는다.
+// olderThan/newerThan 은 커서(keyset) 페이징용으로 (createdDate, id) 기준이다.
+@Builder
+public record PostDtoQuery(Boolean listed,
+                           Long authorId,
+                           Collection<Long> ids,
+                           PostCursor olderThan,
+                           PostCursor newerThan,
+                           Order order) {
+
+    public enum Order {
+        NONE,
+        LATEST, // createdDate desc, id desc
+        OLDEST  // createdDate asc, id asc
+    }
+}
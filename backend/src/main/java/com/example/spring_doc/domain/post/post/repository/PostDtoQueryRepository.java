@@ -0,0 +1,14 @@
+package com.example.spring_doc.domain.post.post.repository;
+
+import com.example.spring_doc.domain.post.post.dto.PostDto;
+import com.example.spring_doc.domain.post.post.dto.PostMetaDto;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface PostDtoQueryRepository {
+
+    List<PostDto> findDtos(PostDtoQuery query, Pageable pageable);
+
+    List<PostMetaDto> findMetas(PostDtoQuery query, Pageable pageable);
+}
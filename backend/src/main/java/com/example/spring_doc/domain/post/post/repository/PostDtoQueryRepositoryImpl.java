@@ -0,0 +1,108 @@
+package com.example.spring_doc.domain.post.post.repository;
+
+import com.example.spring_doc.domain.post.post.dto.PostCursor;
+import com.example.spring_doc.domain.post.post.dto.PostDto;
+import com.example.spring_doc.domain.post.post.dto.PostMetaDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 목록 조회는 엔티티 대신 PostDto 로 바로 조회한다. (content 제외, 작성자 닉네임은 join)
+// select 절은 여기 한 곳에만 두고, 조건과 정렬만 PostDtoQuery 에 따라 붙인다.
+// 조건부 요청(304) 판단용 PostMetaDto 도 같은 조건과 정렬로 조회해서 같은 페이지의 글이 나오도록 한다.
+// 조건 조합이 몇 가지뿐이라 만들어지는 JPQL 도 몇 가지이고, Hibernate 가 쿼리 계획을 캐시한다.
+@RequiredArgsConstructor
+public class PostDtoQueryRepositoryImpl implements PostDtoQueryRepository {
+
+    private static final String SELECT = """
+            select new com.example.spring_doc.domain.post.post.dto.PostDto(
+                p.id, p.createdDate, p.modifiedDate, p.title, a.id, a.nickname, p.published, p.listed, p.commentCount
+            )
+            from Post p join p.author a
+            """;
+
+    private static final String SELECT_META = """
+            select new com.example.spring_doc.domain.post.post.dto.PostMetaDto(
+                p.id, p.modifiedDate, p.published, p.commentCount
+            )
+            from Post p join p.author a
+            """;
+
+    private final EntityManager em;
+
+    @Override
+    public List<PostDto> findDtos(PostDtoQuery query, Pageable pageable) {
+        return find(SELECT, PostDto.class, query, pageable);
+    }
+
+    @Override
+    public List<PostMetaDto> findMetas(PostDtoQuery query, Pageable pageable) {
+        return find(SELECT_META, PostMetaDto.class, query, pageable);
+    }
+
+    private <T> List<T> find(String select, Class<T> resultClass, PostDtoQuery query, Pageable pageable) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+
+        if (query.listed() != null) {
+            conditions.add("p.listed = :listed");
+            params.put("listed", query.listed());
+        }
+
+        if (query.authorId() != null) {
+            conditions.add("a.id = :authorId");
+            params.put("authorId", query.authorId());
+        }
+
+        if (query.ids() != null) {
+            conditions.add("p.id in :ids");
+            params.put("ids", query.ids());
+        }
+
+        if (query.olderThan() != null) {
+            conditions.add("(p.createdDate < :cursorCreatedDate or (p.createdDate = :cursorCreatedDate and p.id < :cursorId))");
+            putCursor(params, query.olderThan());
+        }
+
+        if (query.newerThan() != null) {
+            conditions.add("(p.createdDate > :cursorCreatedDate or (p.createdDate = :cursorCreatedDate and p.id > :cursorId))");
+            putCursor(params, query.newerThan());
+        }
+
+        StringBuilder jpql = new StringBuilder(select);
+
+        if (!conditions.isEmpty()) {
+            jpql.append("where ").append(String.join(" and ", conditions)).append('\n');
+        }
+
+        PostDtoQuery.Order order = query.order() == null ? PostDtoQuery.Order.NONE : query.order();
+
+        switch (order) {
+            case LATEST -> jpql.append("order by p.createdDate desc, p.id desc");
+            case OLDEST -> jpql.append("order by p.createdDate asc, p.id asc");
+            case NONE -> {
+            }
+        }
+
+        TypedQuery<T> typedQuery = em.createQuery(jpql.toString(), resultClass);
+        params.forEach(typedQuery::setParameter);
+
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return typedQuery.getResultList();
+    }
+
+    private static void putCursor(Map<String, Object> params, PostCursor cursor) {
+        params.put("cursorCreatedDate", cursor.createdDate());
+        params.put("cursorId", cursor.id());
+    }
+}
@@ -1,23 +1,160 @@
 package com.example.spring_doc.domain.post.post.repository;
 
-import com.example.spring_doc.domain.member.member.entity.Member;
+import com.example.spring_doc.domain.post.post.dto.PostCursor;
+import com.example.spring_doc.domain.post.post.dto.PostDto;
+import com.example.spring_doc.domain.post.post.dto.PostMetaDto;
 import com.example.spring_doc.domain.post.post.entity.Post;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostDtoQueryRepository {
     Optional<Post> findTopByOrderByIdDesc();
 
-    Page<Post> findByListed(boolean listed, PageRequest pageRequest);
+    List<Post> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
 
-    Page<Post> findByListedAndTitleLike(boolean listed, String keyword,PageRequest pageRequest);
+    @Query("select p from Post p join fetch p.author where p.id = :id")
+    Optional<Post> findWithAuthorById(long id);
 
-    Page<Post> findByListedAndContentLike(boolean listed, String keyword, PageRequest pageRequest);
+    @Query("""
+            select new com.example.spring_doc.domain.post.post.dto.PostMetaDto(p.id, p.modifiedDate, p.published, p.commentCount)
+            from Post p
+            where p.id = :id
+            """)
+    Optional<PostMetaDto> findMetaById(long id);
 
-    Page<Post> findByAuthorAndTitleLike(Member author, String title,PageRequest pageRequest);
+    // 내보내기용. 전체를 List 로 올리지 않도록 커서(fetch size 단위)로 읽는다.
+    @Query("select p from Post p join fetch p.author order by p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Post> streamAllByOrderByIdAsc();
 
-    Page<Post> findByAuthorAndContentLike(Member author, String content,PageRequest pageRequest);
+    // 댓글 수는 읽고 쓰지 않고 상대값으로 갱신해서 동시에 작성/삭제되어도 유실되지 않는다.
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    int addCommentCount(long id, long delta);
+
+    @Query("select p.id from Post p where p.id > :afterId order by p.id")
+    List<Long> findIdsAfter(long afterId, Pageable pageable);
+
+    // 범위 안에서 저장된 댓글 수가 실제와 다른 글
+    @Query("""
+            select p.id
+            from Post p
+            where p.id between :fromId and :toId
+            and p.commentCount <> (select count(c) from Comment c where c.post = p)
+            """)
+    List<Long> findIdsWithDriftedCommentCount(long fromId, long toId);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p) where p.id in :ids")
+    int recountComments(Collection<Long> ids);
+
+    // 검색 색인의 후보를 실제 부분 문자열로 확인. pattern 은 '!' 로 이스케이프한 '%검색어%' (MySQL 에서 '\' 는 문자열 이스케이프라 쓰지 않는다.)
+    @Query("select p.id from Post p where p.id in :ids and lower(p.title) like :pattern escape '!'")
+    List<Long> findIdsByIdInAndTitleLike(Collection<Long> ids, String pattern);
+
+    @Query("select p.id from Post p where p.id in :ids and lower(p.content) like :pattern escape '!'")
+    List<Long> findIdsByIdInAndContentLike(Collection<Long> ids, String pattern);
+
+    @Query("select p.id from Post p where lower(p.title) like :pattern escape '!'")
+    List<Long> findIdsByTitleLike(String pattern);
+
+    @Query("select p.id from Post p where lower(p.content) like :pattern escape '!'")
+    List<Long> findIdsByContentLike(String pattern);
+
+    long countByPublished(boolean published);
+
+    long countByListed(boolean listed);
+
+    @Query("select p.author.id, count(p) from Post p group by p.author.id")
+    List<Object[]> countGroupByAuthorId();
+
+    // 목록 조회(PostDto)는 PostDtoQueryRepository 의 쿼리 하나로 조회한다.
+    // 전체 개수는 PostCounters 에서 가져오므로 count 쿼리가 없는 List 로 조회
+    default List<PostDto> findDtosByListed(boolean listed, Pageable pageable) {
+        return findDtos(PostDtoQuery.builder().listed(listed).build(), pageable);
+    }
+
+    default List<PostDto> findDtosByAuthorId(long authorId, Pageable pageable) {
+        return findDtos(PostDtoQuery.builder().authorId(authorId).build(), pageable);
+    }
+
+    default List<PostDto> findDtosByIdIn(Collection<Long> ids) {
+        return findDtos(PostDtoQuery.builder().ids(ids).build(), Pageable.unpaged());
+    }
+
+    // findDtosByListed, findDtosByIdIn 과 같은 글의 id, 변경 시각, 댓글 수만 조회
+    default List<PostMetaDto> findMetasByListed(boolean listed, Pageable pageable) {
+        return findMetas(PostDtoQuery.builder().listed(listed).build(), pageable);
+    }
+
+    default List<PostMetaDto> findMetasByIdIn(Collection<Long> ids) {
+        return findMetas(PostDtoQuery.builder().ids(ids).build(), Pageable.unpaged());
+    }
+
+    // 커서(keyset) 페이징. 최신글 순서 (createdDate desc, id desc)
+    default List<PostDto> findListedLatest(boolean listed, Pageable pageable) {
+        return findDtos(PostDtoQuery.builder().listed(listed).order(PostDtoQuery.Order.LATEST).build(), pageable);
+    }
+
+    default List<PostDto> findListedOlderThan(boolean listed, LocalDateTime createdDate, long id, Pageable pageable) {
+        return findDtos(
+                PostDtoQuery.builder()
+                        .listed(listed)
+                        .olderThan(new PostCursor(createdDate, id))
+                        .order(PostDtoQuery.Order.LATEST)
+                        .build(),
+                pageable
+        );
+    }
+
+    default List<PostDto> findListedNewerThan(boolean listed, LocalDateTime createdDate, long id, Pageable pageable) {
+        return findDtos(
+                PostDtoQuery.builder()
+                        .listed(listed)
+                        .newerThan(new PostCursor(createdDate, id))
+                        .order(PostDtoQuery.Order.OLDEST)
+                        .build(),
+                pageable
+        );
+    }
+
+    default List<PostDto> findByAuthorLatest(long authorId, Pageable pageable) {
+        return findDtos(PostDtoQuery.builder().authorId(authorId).order(PostDtoQuery.Order.LATEST).build(), pageable);
+    }
+
+    default List<PostDto> findByAuthorOlderThan(long authorId, LocalDateTime createdDate, long id, Pageable pageable) {
+        return findDtos(
+                PostDtoQuery.builder()
+                        .authorId(authorId)
+                        .olderThan(new PostCursor(createdDate, id))
+                        .order(PostDtoQuery.Order.LATEST)
+                        .build(),
+                pageable
+        );
+    }
+
+    default List<PostDto> findByAuthorNewerThan(long authorId, LocalDateTime createdDate, long id, Pageable pageable) {
+        return findDtos(
+                PostDtoQuery.builder()
+                        .authorId(authorId)
+                        .newerThan(new PostCursor(createdDate, id))
+                        .order(PostDtoQuery.Order.OLDEST)
+                        .build(),
+                pageable
+        );
+    }
 }
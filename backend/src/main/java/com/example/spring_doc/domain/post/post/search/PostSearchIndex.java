@@ -0,0 +1,357 @@
+package com.example.spring_doc.domain.post.post.search;
+
+import com.example.spring_doc.domain.post.post.controller.SearchKeywordType;
+import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.domain.post.post.event.PostChangedEvent;
+import com.example.spring_doc.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+// 글 제목/내용 역색인. 2-gram posting list 로 후보를 좁히고 BM25 로 정렬한다.
+// 원문은 힙에 두지 않는다. 2-gram 이 모두 있어도 이어진 부분 문자열이 아닐 수 있으므로 후보 id 만 DB 에서 LIKE 로 확인한다.
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    // 후보 확인 쿼리의 in 절 크기
+    private static final int VERIFY_BATCH_SIZE = 1000;
+
+    private static final Comparator<ScoredHit> BY_SCORE = Comparator
+            .comparingDouble(ScoredHit::score).reversed()
+            .thenComparingLong(ScoredHit::id);
+
+    private final PostRepository postRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+
+    public record Hits(List<Long> ids, long totalItems) {
+    }
+
+    record Document(long id, long authorId, boolean listed) {
+    }
+
+    private record ScoredHit(long id, double score) {
+    }
+
+    private static class FieldIndex {
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<Long, Integer> lengths = new HashMap<>();
+        private long totalLength;
+
+        void add(long id, String text) {
+            Map<String, Integer> termFrequencies = PostTokenizer.termFrequencies(PostTokenizer.normalize(text));
+
+            termFrequencies.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, k -> new PostingList()).put(id, tf)
+            );
+
+            int length = PostTokenizer.length(termFrequencies);
+            Integer oldLength = lengths.put(id, length);
+            totalLength += length - (oldLength == null ? 0 : oldLength);
+        }
+
+        // 색인할 때와 같은 text 를 받아서 그 term 들의 posting 에서만 뺀다.
+        void remove(long id, String text) {
+            Integer length = lengths.remove(id);
+
+            if (length == null) {
+                return;
+            }
+
+            totalLength -= length;
+
+            for (String term : PostTokenizer.termFrequencies(PostTokenizer.normalize(text)).keySet()) {
+                PostingList postingList = postings.get(term);
+
+                if (postingList == null) {
+                    continue;
+                }
+
+                postingList.remove(id);
+
+                if (postingList.size() == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static class IndexState {
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final Map<SearchKeywordType, FieldIndex> fields = new EnumMap<>(SearchKeywordType.class);
+
+        IndexState() {
+            for (SearchKeywordType keywordType : SearchKeywordType.values()) {
+                fields.put(keywordType, new FieldIndex());
+            }
+        }
+
+        void add(long id, long authorId, boolean listed, String title, String content) {
+            documents.put(id, new Document(id, authorId, listed));
+            fields.get(SearchKeywordType.TITLE).add(id, title);
+            fields.get(SearchKeywordType.CONTENT).add(id, content);
+        }
+
+        void remove(long id, String title, String content) {
+            if (documents.remove(id) == null) {
+                return;
+            }
+
+            fields.get(SearchKeywordType.TITLE).remove(id, title);
+            fields.get(SearchKeywordType.CONTENT).remove(id, content);
+        }
+    }
+
+    public Hits searchListed(SearchKeywordType keywordType, String keyword, int offset, int limit) {
+        return search(keywordType, keyword, Document::listed, offset, limit);
+    }
+
+    public Hits searchByAuthor(long authorId, SearchKeywordType keywordType, String keyword, int offset, int limit) {
+        return search(keywordType, keyword, doc -> doc.authorId() == authorId, offset, limit);
+    }
+
+    private Hits search(SearchKeywordType keywordType, String keyword, Predicate<Document> filter, int offset, int limit) {
+        String normalizedKeyword = PostTokenizer.normalize(keyword).strip();
+        List<String> queryTerms = PostTokenizer.queryTerms(normalizedKeyword);
+
+        List<ScoredHit> hits;
+
+        if (queryTerms.isEmpty()) {
+            hits = scan(keywordType, normalizedKeyword, filter);
+        } else {
+            lock.readLock().lock();
+
+            try {
+                hits = match(state.fields.get(keywordType), queryTerms, filter);
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // 검색어가 2-gram 하나뿐이면 그 2-gram 이 있는 것이 곧 부분 문자열이므로 확인하지 않는다.
+            if (queryTerms.size() > 1 || !queryTerms.getFirst().equals(normalizedKeyword)) {
+                hits = verify(keywordType, normalizedKeyword, hits);
+            }
+        }
+
+        hits.sort(BY_SCORE);
+
+        int from = Math.min(offset, hits.size());
+        int to = Math.min(offset + limit, hits.size());
+
+        List<Long> ids = hits.subList(from, to)
+                .stream()
+                .map(ScoredHit::id)
+                .toList();
+
+        return new Hits(ids, hits.size());
+    }
+
+    private List<ScoredHit> match(FieldIndex field, List<String> queryTerms, Predicate<Document> filter) {
+        List<PostingList> postingLists = new ArrayList<>(queryTerms.size());
+
+        for (String term : queryTerms) {
+            PostingList postingList = field.postings.get(term);
+
+            // 하나라도 없는 term 이 있으면 일치하는 글이 없다.
+            if (postingList == null) {
+                return new ArrayList<>();
+            }
+
+            postingLists.add(postingList);
+        }
+
+        // 가장 짧은 posting list 를 기준으로 나머지와 교집합
+        postingLists.sort(Comparator.comparingInt(PostingList::size));
+
+        int documentCount = state.documents.size();
+        double avgLength = Math.max(1.0, (double) field.totalLength / Math.max(1, documentCount));
+
+        double[] idfs = new double[postingLists.size()];
+        for (int i = 0; i < idfs.length; i++) {
+            int df = postingLists.get(i).size();
+            idfs[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        PostingList shortest = postingLists.getFirst();
+        List<ScoredHit> hits = new ArrayList<>();
+
+        for (int i = 0; i < shortest.size(); i++) {
+            long id = shortest.idAt(i);
+            Document document = state.documents.get(id);
+
+            if (document == null || !filter.test(document)) {
+                continue;
+            }
+
+            int length = field.lengths.get(id);
+            double score = 0;
+            boolean matched = true;
+
+            for (int j = 0; j < postingLists.size(); j++) {
+                PostingList postingList = postingLists.get(j);
+                int index = j == 0 ? i : postingList.indexOf(id);
+
+                if (index < 0) {
+                    matched = false;
+                    break;
+                }
+
+                score += idfs[j] * bm25(postingList.tfAt(index), length, avgLength);
+            }
+
+            if (matched) {
+                hits.add(new ScoredHit(id, score));
+            }
+        }
+
+        return hits;
+    }
+
+    // 2-gram 후보 중 검색어가 실제로 이어져 있는 글만 남긴다. 원문은 DB 에만 있으므로 id 만 받아 온다.
+    private List<ScoredHit> verify(SearchKeywordType keywordType, String normalizedKeyword, List<ScoredHit> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        String pattern = likePattern(normalizedKeyword);
+        Set<Long> matchedIds = new HashSet<>();
+
+        for (int from = 0; from < candidates.size(); from += VERIFY_BATCH_SIZE) {
+            List<Long> ids = candidates.subList(from, Math.min(from + VERIFY_BATCH_SIZE, candidates.size()))
+                    .stream()
+                    .map(ScoredHit::id)
+                    .toList();
+
+            matchedIds.addAll(
+                    keywordType == SearchKeywordType.TITLE
+                            ? postRepository.findIdsByIdInAndTitleLike(ids, pattern)
+                            : postRepository.findIdsByIdInAndContentLike(ids, pattern)
+            );
+        }
+
+        List<ScoredHit> hits = new ArrayList<>(matchedIds.size());
+
+        for (ScoredHit candidate : candidates) {
+            if (matchedIds.contains(candidate.id())) {
+                hits.add(candidate);
+            }
+        }
+
+        return hits;
+    }
+
+    // 한 글자 검색어처럼 2-gram 이 없는 경우 DB 에서 LIKE 로 찾고, 목록/작성자 조건은 색인의 문서 정보로 거른다.
+    private List<ScoredHit> scan(SearchKeywordType keywordType, String normalizedKeyword, Predicate<Document> filter) {
+        String pattern = likePattern(normalizedKeyword);
+        List<Long> ids = keywordType == SearchKeywordType.TITLE
+                ? postRepository.findIdsByTitleLike(pattern)
+                : postRepository.findIdsByContentLike(pattern);
+
+        List<ScoredHit> hits = new ArrayList<>();
+
+        lock.readLock().lock();
+
+        try {
+            for (long id : ids) {
+                Document document = state.documents.get(id);
+
+                if (document != null && filter.test(document)) {
+                    hits.add(new ScoredHit(id, 0));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return hits;
+    }
+
+    private static String likePattern(String normalizedKeyword) {
+        StringBuilder pattern = new StringBuilder(normalizedKeyword.length() + 2).append('%');
+
+        for (int i = 0; i < normalizedKeyword.length(); i++) {
+            char c = normalizedKeyword.charAt(i);
+
+            if (c == '%' || c == '_' || c == '!') {
+                pattern.append('!');
+            }
+
+            pattern.append(c);
+        }
+
+        return pattern.append('%').toString();
+    }
+
+    private static double bm25(int tf, int length, double avgLength) {
+        return tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        lock.writeLock().lock();
+
+        try {
+            PostChangedEvent.PostSnapshot before = event.before();
+
+            if (before != null) {
+                state.remove(before.id(), before.title(), before.content());
+            }
+
+            PostChangedEvent.PostSnapshot after = event.after();
+
+            if (after != null) {
+                state.add(after.id(), after.authorId(), after.listed(), after.title(), after.content());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기동 시 DB 에서 전체 색인을 다시 만든다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        IndexState newState = new IndexState();
+        long lastId = 0;
+
+        while (true) {
+            List<Post> posts = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+
+            if (posts.isEmpty()) {
+                break;
+            }
+
+            for (Post post : posts) {
+                newState.add(post.getId(), post.getAuthor().getId(), post.isListed(), post.getTitle(), post.getContent());
+            }
+
+            lastId = posts.getLast().getId();
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            state = newState;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
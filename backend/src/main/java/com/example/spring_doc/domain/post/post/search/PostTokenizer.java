@@ -0,0 +1,100 @@
+package com.example.spring_doc.domain.post.post.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 단어 단위로 자른 뒤 2-gram 으로 색인한다. LIKE '%kw%' 와 같은 부분 일치 검색을 지원하기 위함.
+final class PostTokenizer {
+
+    private PostTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화된 텍스트 -> (term, tf)
+    static Map<String, Integer> termFrequencies(String normalized) {
+        Map<String, Integer> tfs = new HashMap<>();
+
+        for (String word : words(normalized)) {
+            for (String term : terms(word)) {
+                tfs.merge(term, 1, Integer::sum);
+            }
+        }
+
+        return tfs;
+    }
+
+    // 검색어의 term 목록. 한 글자 단어는 2-gram 이 없으므로 포함하지 않는다.
+    static List<String> queryTerms(String normalizedKeyword) {
+        List<String> queryTerms = new ArrayList<>();
+
+        for (String word : words(normalizedKeyword)) {
+            if (word.length() < 2) {
+                continue;
+            }
+
+            for (String term : terms(word)) {
+                if (!queryTerms.contains(term)) {
+                    queryTerms.add(term);
+                }
+            }
+        }
+
+        return queryTerms;
+    }
+
+    static int length(Map<String, Integer> termFrequencies) {
+        int length = 0;
+
+        for (int tf : termFrequencies.values()) {
+            length += tf;
+        }
+
+        return length;
+    }
+
+    private static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+
+        return words;
+    }
+
+    private static List<String> terms(String word) {
+        if (word.length() < 2) {
+            return List.of(word);
+        }
+
+        List<String> terms = new ArrayList<>(word.length() - 1);
+
+        for (int i = 0; i < word.length() - 1; i++) {
+            terms.add(word.substring(i, i + 2));
+        }
+
+        return terms;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.spring_doc.domain.post.post.search;
+
+import java.util.Arrays;
+
+// postId 오름차순으로 정렬된 (postId, tf) 목록. 새 글은 id 가 가장 크므로 대부분 뒤에 붙는다.
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int[] tfs = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    int tfAt(int index) {
+        return tfs[index];
+    }
+
+    int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    void put(long id, int tf) {
+        int index = indexOf(id);
+
+        if (index >= 0) {
+            tfs[index] = tf;
+            return;
+        }
+
+        int insertAt = -index - 1;
+
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            tfs = Arrays.copyOf(tfs, size * 2);
+        }
+
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(tfs, insertAt, tfs, insertAt + 1, size - insertAt);
+
+        ids[insertAt] = id;
+        tfs[insertAt] = tf;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = indexOf(id);
+
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        System.arraycopy(tfs, index + 1, tfs, index, size - index - 1);
+        size--;
+    }
+}
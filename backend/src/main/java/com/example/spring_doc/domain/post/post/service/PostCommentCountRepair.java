@@ -0,0 +1,64 @@
+package com.example.spring_doc.domain.post.post.service;
+
+import com.example.spring_doc.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Post.commentCount 가 실제 댓글 수와 어긋난 글을 찾아서 다시 센다.
+// id 순으로 BATCH_SIZE 개씩 범위를 나누어 범위마다 짧은 트랜잭션으로 처리한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCountRepair {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final PostDetailCache postDetailCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(
+            initialDelayString = "${custom.post.comment-count.repair-delay-ms}",
+            fixedDelayString = "${custom.post.comment-count.repair-delay-ms}"
+    )
+    public void repair() {
+        long lastId = 0;
+        int repaired = 0;
+
+        while (true) {
+            List<Long> ids = postRepository.findIdsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            long fromId = ids.getFirst();
+            long toId = ids.getLast();
+
+            List<Long> drifted = transactionTemplate.execute(_ -> {
+                List<Long> found = postRepository.findIdsWithDriftedCommentCount(fromId, toId);
+
+                // 찾은 뒤 다시 세는 것도 상대값이 아닌 하위 쿼리로 한 문장에서 처리
+                if (!found.isEmpty()) {
+                    postRepository.recountComments(found);
+                }
+
+                return found;
+            });
+
+            drifted.forEach(postDetailCache::invalidate);
+            repaired += drifted.size();
+            lastId = toId;
+        }
+
+        if (repaired > 0) {
+            log.warn("repaired comment count of {} posts", repaired);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.spring_doc.domain.post.post.service;
+
+import com.example.spring_doc.domain.post.post.event.PostChangedEvent;
+import com.example.spring_doc.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 글 개수를 메모리에서 관리해서 목록 조회 때마다 count(*) 를 하지 않도록 한다.
+@Component
+@RequiredArgsConstructor
+public class PostCounters {
+
+    private final PostRepository postRepository;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder listed = new LongAdder();
+    private final Map<Long, LongAdder> byAuthor = new ConcurrentHashMap<>();
+
+    // 카운터에 반영된 변경 수
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long getPublished() {
+        return published.sum();
+    }
+
+    public long getListed() {
+        return listed.sum();
+    }
+
+    public long getByAuthor(long authorId) {
+        LongAdder count = byAuthor.get(authorId);
+
+        return count == null ? 0 : count.sum();
+    }
+
+    // 글을 바꾼 트랜잭션을 커밋 직전에 세고, 트랜잭션이 끝나면(커밋 후 카운터 반영까지 마친 뒤) 뺀다.
+    // 0 이 아니면 DB 에는 있지만 카운터에는 아직 없는 변경이 있을 수 있으므로 보정을 건너뛴다.
+    // 가져오기처럼 한 트랜잭션에서 이벤트가 여러 번 나와도 한 번만 센다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPostChanging(PostChangedEvent event) {
+        if (TransactionSynchronizationManager.hasResource(inFlight)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(inFlight, Boolean.TRUE);
+        inFlight.incrementAndGet();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(inFlight);
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.before() != null) {
+            apply(event.before(), -1);
+        }
+
+        if (event.after() != null) {
+            apply(event.after(), 1);
+        }
+
+        version.incrementAndGet();
+    }
+
+    private void apply(PostChangedEvent.PostSnapshot post, int delta) {
+        total.add(delta);
+
+        if (post.published()) {
+            published.add(delta);
+        }
+
+        if (post.listed()) {
+            listed.add(delta);
+        }
+
+        byAuthor.computeIfAbsent(post.authorId(), k -> new LongAdder()).add(delta);
+    }
+
+    // count 쿼리 전후로 카운터가 그대로이고 반영 대기 중인 변경이 없을 때만 DB 값으로 맞춘다.
+    // 쿼리 전에 읽어 둔 값과의 차이만 더하므로, 확인 뒤에 들어온 증감은 지워지지 않는다.
+    // 건너뛴 보정은 다음 주기에 다시 시도한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${custom.post.counter.reconcile-delay-ms}",
+            fixedDelayString = "${custom.post.counter.reconcile-delay-ms}"
+    )
+    public void reconcile() {
+        adjust(total, postRepository::count);
+        adjust(published, () -> postRepository.countByPublished(true));
+        adjust(listed, () -> postRepository.countByListed(true));
+
+        long versionBefore = version.get();
+        Map<Long, Long> before = new HashMap<>();
+        byAuthor.forEach((authorId, count) -> before.put(authorId, count.sum()));
+
+        Map<Long, Long> dbByAuthor = new HashMap<>();
+        List<Object[]> rows = postRepository.countGroupByAuthorId();
+
+        for (Object[] row : rows) {
+            dbByAuthor.put((Long) row[0], (Long) row[1]);
+        }
+
+        if (!isQuiet(versionBefore)) {
+            return;
+        }
+
+        before.forEach((authorId, count) -> {
+            if (!dbByAuthor.containsKey(authorId)) {
+                byAuthor.get(authorId).add(-count);
+            }
+        });
+
+        dbByAuthor.forEach((authorId, count) ->
+                byAuthor.computeIfAbsent(authorId, k -> new LongAdder()).add(count - before.getOrDefault(authorId, 0L))
+        );
+    }
+
+    private void adjust(LongAdder counter, LongSupplier dbCount) {
+        long versionBefore = version.get();
+        long before = counter.sum();
+        long expected = dbCount.getAsLong();
+
+        if (isQuiet(versionBefore)) {
+            counter.add(expected - before);
+        }
+    }
+
+    private boolean isQuiet(long versionBefore) {
+        return inFlight.get() == 0 && version.get() == versionBefore;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.spring_doc.domain.post.post.service;
+
+import com.example.spring_doc.domain.post.comment.event.CommentChangedEvent;
+import com.example.spring_doc.domain.post.post.dto.PostWithContentDto;
+import com.example.spring_doc.domain.post.post.event.PostChangedEvent;
+import com.example.spring_doc.global.dto.RsData;
+import com.example.spring_doc.standard.Ut;
+import com.example.spring_doc.standard.cache.OffHeapLruCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 공개 글 상세 응답(RsData<PostWithContentDto>)을 JSON 바이트 그대로 힙 밖 메모리에 보관. 큰 본문이 힙에 오래 머무르지 않도록 한다.
+// 적중하면 DTO 로 되돌리지 않고 저장된 바이트를 응답으로 바로 흘려보낸다.
+// 저장 형식: [Last-Modified(ms) 8바이트][ETag 태그 길이 2바이트][태그][응답 본문]
+@Component
+public class PostDetailCache implements DisposableBean {
+
+    private static final int HEADER_SIZE = Long.BYTES + Short.BYTES;
+
+    // 적중한 항목. 응답을 다 쓴 뒤 반드시 close 할 것
+    public static final class Hit implements AutoCloseable {
+        private final OffHeapLruCache<Long>.Lease lease;
+        private final long lastModifiedMillis;
+        private final String tag;
+        private final int bodyOffset;
+
+        // 헤더는 힙 배열로 옮기지 않고 슬랩에서 바로 읽는다. ETag 헤더에 써야 하는 태그 String 만 만든다.
+        private Hit(OffHeapLruCache<Long>.Lease lease) {
+            int tagLength = lease.getShort(Long.BYTES);
+
+            this.lease = lease;
+            this.lastModifiedMillis = lease.getLong(0);
+            this.tag = lease.getString(HEADER_SIZE, tagLength);
+            this.bodyOffset = HEADER_SIZE + tagLength;
+        }
+
+        public long lastModifiedMillis() {
+            return lastModifiedMillis;
+        }
+
+        public String tag() {
+            return tag;
+        }
+
+        public void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(200);
+            response.setContentType("application/json;charset=UTF-8");
+            response.setContentLength(lease.length() - bodyOffset);
+            lease.writeTo(bodyOffset, response.getOutputStream());
+        }
+
+        @Override
+        public void close() {
+            lease.close();
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final OffHeapLruCache<Long> cache;
+    // 조회 도중 수정/삭제가 일어났다면 읽어온 값은 넣지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostDetailCache(ObjectMapper objectMapper,
+                           @Value("${custom.post.detail-cache.budget-bytes}") long budgetBytes,
+                           @Value("${custom.post.detail-cache.block-size}") int blockSize) {
+        this.objectMapper = objectMapper;
+        this.cache = new OffHeapLruCache<>(budgetBytes, blockSize);
+    }
+
+    // 없으면 null
+    public Hit get(long id) {
+        OffHeapLruCache<Long>.Lease lease = cache.acquire(id);
+
+        return lease == null ? null : new Hit(lease);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // 비공개 글은 권한 확인이 필요하므로 캐시하지 않는다.
+    public void put(RsData<PostWithContentDto> rsData, String tag, long expectedGeneration) {
+        PostWithContentDto post = rsData.getData();
+
+        if (!post.isPublished() || expectedGeneration != generation.get()) {
+            return;
+        }
+
+        byte[] tagBytes = tag.getBytes(StandardCharsets.UTF_8);
+        byte[] body;
+
+        try {
+            body = objectMapper.writeValueAsBytes(rsData);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        cache.put(
+                post.getId(),
+                ByteBuffer.allocate(HEADER_SIZE + tagBytes.length + body.length)
+                        .putLong(Ut.Time.toEpochMillis(post.getModifiedDate()))
+                        .putShort((short) tagBytes.length)
+                        .put(tagBytes)
+                        .put(body)
+                        .array()
+        );
+
+        // 넣는 사이에 무효화되었다면 다시 제거
+        if (expectedGeneration != generation.get()) {
+            cache.invalidate(post.getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.before() == null) {
+            return;
+        }
+
+        invalidate(event.postId());
+    }
+
+    // 댓글 수가 바뀌었으므로 해당 글만 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.type() == CommentChangedEvent.Type.MODIFIED) {
+            return;
+        }
+
+        invalidate(event.postId());
+    }
+
+    public void invalidate(long id) {
+        generation.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public OffHeapLruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void destroy() {
+        cache.close();
+    }
+}
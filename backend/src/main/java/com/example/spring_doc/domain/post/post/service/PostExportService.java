@@ -0,0 +1,79 @@
+package com.example.spring_doc.domain.post.post.service;
+
+import com.example.spring_doc.domain.post.comment.dto.CommentDto;
+import com.example.spring_doc.domain.post.comment.entity.Comment;
+import com.example.spring_doc.domain.post.comment.repository.CommentRepository;
+import com.example.spring_doc.domain.post.post.dto.PostExportDto;
+import com.example.spring_doc.domain.post.post.dto.PostWithContentDto;
+import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.domain.post.post.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 전체 글을 NDJSON 으로 내보낸다.
+// 결과를 List 로 모으지 않고 커서로 한 줄씩 읽어서 바로 쓰고, 주기적으로 영속성 컨텍스트를 비워서
+// 테이블 크기와 상관없이 메모리 사용량이 일정하다.
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    // 이 개수마다 영속성 컨텍스트를 비우고 출력 버퍼를 내보낸다.
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream out, boolean withComments) throws IOException {
+        long count = 0;
+
+        try (Stream<Post> posts = postRepository.streamAllByOrderByIdAsc();
+             Stream<Comment> comments = withComments ? commentRepository.streamAllByOrderByPostIdAscIdAsc() : Stream.empty()) {
+
+            Iterator<Comment> commentIterator = comments.iterator();
+            Comment nextComment = commentIterator.hasNext() ? commentIterator.next() : null;
+
+            for (Iterator<Post> postIterator = posts.iterator(); postIterator.hasNext(); ) {
+                Post post = postIterator.next();
+                List<CommentDto> commentDtos = null;
+
+                // 두 스트림 모두 글 id 순이므로 병합 조인으로 해당 글의 댓글만 꺼낸다.
+                if (withComments) {
+                    commentDtos = new ArrayList<>();
+
+                    while (nextComment != null && nextComment.getPost().getId() <= post.getId()) {
+                        if (nextComment.getPost().getId() == post.getId()) {
+                            commentDtos.add(new CommentDto(nextComment));
+                        }
+
+                        nextComment = commentIterator.hasNext() ? commentIterator.next() : null;
+                    }
+                }
+
+                out.write(objectMapper.writeValueAsBytes(new PostExportDto(new PostWithContentDto(post), commentDtos)));
+                out.write('\n');
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    out.flush();
+                }
+            }
+        }
+
+        out.flush();
+
+        return count;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.spring_doc.domain.post.post.service;
+
+import com.example.spring_doc.domain.member.member.entity.Member;
+import com.example.spring_doc.domain.member.member.repository.MemberRepository;
+import com.example.spring_doc.domain.post.comment.event.CommentChangedEvent;
+import com.example.spring_doc.domain.post.post.dto.PostImportDto;
+import com.example.spring_doc.domain.post.post.dto.PostImportFailureDto;
+import com.example.spring_doc.domain.post.post.dto.PostImportResultDto;
+import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.domain.post.post.event.PostChangedEvent;
+import com.example.spring_doc.global.dto.RsData;
+import com.example.spring_doc.global.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 글(과 댓글)을 대량으로 가져온다.
+// 요청 본문의 JSON 배열을 한 건씩 읽어서 CHUNK_SIZE 개씩 하나의 트랜잭션으로 저장한다.
+// id 는 시퀀스에서 미리 할당받으므로 insert 가 JDBC batch 로 묶인다. (hibernate.jdbc.batch_size)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    // 중간에 실패하면 앞서 커밋된 청크는 그대로 남는다. (본문을 다시 읽을 수 없으므로 미리 전부 검증하지 않는다.)
+    // 대신 오류 응답 data 에 커밋된 건수와 실패한 위치(PostImportFailureDto)를 담아, 그 위치부터 다시 보낼 수 있게 한다.
+    public PostImportResultDto importPosts(InputStream in) throws IOException {
+        long startedAt = System.nanoTime();
+        long postCount = 0;
+        long commentCount = 0;
+        List<PostImportResultDto.Chunk> chunks = new ArrayList<>();
+        List<PostImportDto> items = new ArrayList<>(CHUNK_SIZE);
+        // 지금 처리 중인 글의 위치(0부터)
+        long index = 0;
+
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ServiceException("400-1", "글 목록은 JSON 배열이어야 합니다.");
+            }
+
+            boolean done = false;
+
+            while (!done) {
+                index = postCount + items.size();
+                done = parser.nextToken() == JsonToken.END_ARRAY;
+
+                if (!done) {
+                    items.add(validate(objectMapper.readValue(parser, PostImportDto.class), index));
+                }
+
+                if (items.size() == CHUNK_SIZE || (done && !items.isEmpty())) {
+                    int missing = indexOfMissingAuthor(items);
+
+                    if (missing != -1) {
+                        index = postCount + missing;
+                        throw new ServiceException("400-1", "%d번째 글에 존재하지 않는 작성자가 있습니다.".formatted(index + 1));
+                    }
+
+                    PostImportResultDto.Chunk chunk = saveChunk(chunks.size() + 1, items);
+                    chunks.add(chunk);
+                    postCount += chunk.postCount();
+                    commentCount += chunk.commentCount();
+                    items.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw failure("400-2", "%d번째 글을 읽을 수 없습니다. JSON 형식을 확인해주세요.".formatted(index + 1), index, postCount, commentCount);
+        } catch (ServiceException e) {
+            throw failure(e.getCode(), e.getMsg(), index, postCount, commentCount);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        return new PostImportResultDto(
+                postCount,
+                commentCount,
+                elapsedNanos / 1_000_000,
+                PostImportResultDto.rowsPerSecond(postCount + commentCount, elapsedNanos),
+                chunks
+        );
+    }
+
+    private ServiceException failure(String code, String msg, long index, long postCount, long commentCount) {
+        return new ServiceException(
+                new RsData<>(code, msg, new PostImportFailureDto(index + 1, postCount, commentCount))
+        );
+    }
+
+    private PostImportDto validate(PostImportDto item, long index) {
+        if (item.title() == null || item.title().isBlank() || item.content() == null || item.content().isBlank()) {
+            throw new ServiceException("400-1", "%d번째 글의 제목과 내용은 필수입니다.".formatted(index + 1));
+        }
+
+        if (item.comments() != null && item.comments().stream().anyMatch(c -> c.content() == null || c.content().isBlank())) {
+            throw new ServiceException("400-1", "%d번째 글에 내용이 없는 댓글이 있습니다.".formatted(index + 1));
+        }
+
+        return item;
+    }
+
+    // 청크 하나를 하나의 트랜잭션으로 저장. 앞선 청크는 이미 커밋되어 있다.
+    private PostImportResultDto.Chunk saveChunk(int no, List<PostImportDto> items) {
+        long startedAt = System.nanoTime();
+
+        int commentCount = transactionTemplate.execute(_ -> {
+            int count = 0;
+            List<Post> posts = new ArrayList<>(items.size());
+
+            for (PostImportDto item : items) {
+                // 작성자는 select 없이 프록시로 연결
+                Post post = Post.builder()
+                        .author(entityManager.getReference(Member.class, item.authorId()))
+                        .title(item.title())
+                        .content(item.content())
+                        .published(item.published())
+                        .listed(item.listed())
+                        .commentCount(item.comments() == null ? 0 : item.comments().size())
+                        .build();
+
+                if (item.comments() != null) {
+                    for (PostImportDto.CommentImportDto comment : item.comments()) {
+                        post.addComment(entityManager.getReference(Member.class, comment.authorId()), comment.content());
+                        count++;
+                    }
+                }
+
+                entityManager.persist(post);
+                posts.add(post);
+            }
+
+            entityManager.flush();
+
+            // 검색 색인, 카운터, 캐시는 커밋 후에 반영된다.
+            for (Post post : posts) {
+                eventPublisher.publishEvent(PostChangedEvent.written(post));
+                post.getComments().forEach(_ -> eventPublisher.publishEvent(CommentChangedEvent.written(post.getId())));
+            }
+
+            entityManager.clear();
+
+            return count;
+        });
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        PostImportResultDto.Chunk chunk = new PostImportResultDto.Chunk(
+                no,
+                items.size(),
+                commentCount,
+                elapsedNanos / 1_000_000,
+                PostImportResultDto.rowsPerSecond(items.size() + commentCount, elapsedNanos)
+        );
+
+        log.info("post import chunk {}: {} posts, {} comments in {}ms ({} rows/s)",
+                chunk.no(), chunk.postCount(), chunk.commentCount(), chunk.elapsedMillis(), (long) chunk.rowsPerSecond());
+
+        return chunk;
+    }
+
+    // 없는 작성자를 가리키면 flush 시점에 FK 오류가 나기 전에 알아듣기 쉬운 메시지로 거절하기 위해 미리 확인.
+    // 그런 글이 있으면 청크 안에서의 첫 위치, 없으면 -1
+    private int indexOfMissingAuthor(List<PostImportDto> items) {
+        Set<Long> authorIds = new HashSet<>();
+
+        for (PostImportDto item : items) {
+            authorIds.add(item.authorId());
+
+            if (item.comments() != null) {
+                item.comments().forEach(comment -> authorIds.add(comment.authorId()));
+            }
+        }
+
+        memberRepository.findAllById(authorIds).forEach(member -> authorIds.remove(member.getId()));
+
+        if (authorIds.isEmpty()) {
+            return -1;
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            PostImportDto item = items.get(i);
+
+            if (authorIds.contains(item.authorId())
+                    || (item.comments() != null && item.comments().stream().anyMatch(c -> authorIds.contains(c.authorId())))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
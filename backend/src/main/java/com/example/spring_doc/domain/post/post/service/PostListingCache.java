@@ -0,0 +1,113 @@
+package com.example.spring_doc.domain.post.post.service;
+
+import com.example.spring_doc.domain.post.post.controller.SearchKeywordType;
+import com.example.spring_doc.domain.post.post.dto.PageDto;
+import com.example.spring_doc.domain.post.post.dto.PostDto;
+import com.example.spring_doc.domain.post.post.event.PostChangedEvent;
+import com.example.spring_doc.global.dto.RsData;
+import com.example.spring_doc.standard.cache.TinyLfuCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// GET /api/v1/posts 응답 캐시. 직렬화된 RsData<PageDto> 바이트를 담아 두고, 적중하면 그대로 응답으로 쓴다.
+// 글이 바뀌면 영향을 받는 항목만 지운다. (onPostChanged)
+// 댓글 수(commentCount)는 댓글마다 비우지 않으므로 최대 TTL 만큼 늦게 반영된다.
+@Component
+public class PostListingCache {
+
+    public record Key(int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+
+        boolean isSearch() {
+            return !keyword.isBlank();
+        }
+    }
+
+    // body: 응답 JSON, tag: ETag, postIds: 페이지에 담긴 글
+    public record Entry(byte[] body, String tag, long[] postIds) {
+
+        boolean contains(long postId) {
+            for (long id : postIds) {
+                if (id == postId) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final TinyLfuCache<Key, Entry> cache;
+
+    public PostListingCache(ObjectMapper objectMapper,
+                            @Value("${custom.post.listing-cache.maximum-bytes}") long maximumBytes,
+                            @Value("${custom.post.listing-cache.ttl-seconds}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cache = new TinyLfuCache<>(maximumBytes, 1024, Duration.ofSeconds(ttlSeconds), entry -> entry.body().length);
+    }
+
+    // 없으면 loader 로 읽어서 한 번만 직렬화해 넣는다.
+    public Entry get(Key key, Supplier<RsData<PageDto>> loader, Function<PageDto, String> tagger) {
+        return cache.get(key, _ -> toEntry(loader.get(), tagger));
+    }
+
+    private Entry toEntry(RsData<PageDto> rsData, Function<PageDto, String> tagger) {
+        PageDto pageDto = rsData.getData();
+
+        try {
+            return new Entry(
+                    objectMapper.writeValueAsBytes(rsData),
+                    tagger.apply(pageDto),
+                    pageDto.getItems().stream().mapToLong(PostDto::getId).toArray()
+            );
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        PostChangedEvent.PostSnapshot before = event.before();
+        PostChangedEvent.PostSnapshot after = event.after();
+        boolean listedBefore = before != null && before.listed();
+        boolean listedAfter = after != null && after.listed();
+
+        if (!listedBefore && !listedAfter) {
+            return;
+        }
+
+        // 목록에 글이 생기거나 빠지면 모든 항목의 전체 개수(totalItems)가 바뀌고, 그 글 뒤에 오는 페이지들의 경계가 밀린다.
+        if (listedBefore != listedAfter) {
+            cache.invalidateAll();
+            return;
+        }
+
+        // 목록에 계속 있는 글의 수정: 그 글이 담긴 페이지와, 바뀐 필드로 검색한 결과(글이 새로 걸리거나 빠질 수 있음)만 지운다.
+        // 다른 글의 BM25 점수는 거의 바뀌지 않으므로 그 밖의 검색 결과는 TTL 에 맡긴다.
+        long postId = event.postId();
+        boolean titleChanged = !before.title().equals(after.title());
+        boolean contentChanged = !before.content().equals(after.content());
+
+        cache.invalidateIf((key, entry) -> entry.contains(postId)
+                || key.isSearch() && (key.keywordType() == SearchKeywordType.TITLE ? titleChanged : contentChanged));
+    }
+
+    public void invalidate(Key key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public TinyLfuCache.Stats stats() {
+        return cache.stats();
+    }
+}
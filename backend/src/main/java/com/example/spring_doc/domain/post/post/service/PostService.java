@@ -2,28 +2,51 @@ package com.example.spring_doc.domain.post.post.service;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.domain.member.member.repository.MemberRepository;
+import com.example.spring_doc.domain.post.comment.entity.Comment;
+import com.example.spring_doc.domain.post.comment.event.CommentChangedEvent;
 import com.example.spring_doc.domain.post.post.controller.SearchKeywordType;
+import com.example.spring_doc.domain.post.post.dto.CursorPageDto;
+import com.example.spring_doc.domain.post.post.dto.PostCursor;
+import com.example.spring_doc.domain.post.post.dto.PostDto;
+import com.example.spring_doc.domain.post.post.dto.PostMetaDto;
 import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.domain.post.post.event.PostChangedEvent;
 import com.example.spring_doc.domain.post.post.repository.PostRepository;
+import com.example.spring_doc.domain.post.post.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    // 커서 조회에서 한 번에 내려주는 글 수 상한
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCounters postCounters;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Post write(Member author, String title, String content, boolean published, boolean listed) {
 
-        return postRepository.save(
+        Post post = postRepository.save(
                 Post
                         .builder()
                         .published(published)
@@ -33,35 +56,60 @@ public class PostService {
                         .content(content)
                         .build()
         );
-    }
 
-    public List<Post> getItems() {
-        return postRepository.findAll();
+        eventPublisher.publishEvent(PostChangedEvent.written(post));
+
+        return post;
     }
 
     public Optional<Post> getItem(long id) {
         return postRepository.findById(id);
     }
 
+    public Optional<PostMetaDto> getItemMeta(long id) {
+        return postRepository.findMetaById(id);
+    }
+
+    // 트랜잭션 밖에서도 작성자 정보를 쓸 수 있도록 함께 조회
+    public Optional<Post> getItemWithAuthor(long id) {
+        return postRepository.findWithAuthorById(id);
+    }
+
+    public boolean exists(long id) {
+        return postRepository.existsById(id);
+    }
+
     public long count() {
         return postRepository.count();
     }
 
     public void delete(Post post) {
         postRepository.delete(post);
+
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post));
     }
 
     @Transactional
     public void modify(Post post, String title, String content) {
+        PostChangedEvent.PostSnapshot before = PostChangedEvent.PostSnapshot.of(post);
+
         post.setTitle(title);
         post.setContent(content);
+
+        eventPublisher.publishEvent(PostChangedEvent.modified(before, post));
     }
 
 
-    public void writeComment(Post post, String content) {
-        post.addComment(post.getAuthor(), content);
+    public Comment writeComment(Post post, Member author, String content) {
+        Comment comment = post.addComment(author, content);
+        postRepository.addCommentCount(post.getId(), 1);
+
+        eventPublisher.publishEvent(CommentChangedEvent.written(post.getId()));
+
+        return comment;
     }
 
+
     public void flush() {
         postRepository.flush();
     }
@@ -70,26 +118,139 @@ public class PostService {
         return postRepository.findTopByOrderByIdDesc();
     }
 
-    public Page<Post> getListedItems(int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+    public Page<PostDto> getListedItems(int page, int pageSize, SearchKeywordType keywordType, String keyword) {
         PageRequest pageRequest = PageRequest.of(page - 1, pageSize);
 
-        String likeKeyword = "%" + keyword + "%";
+        if (keyword.isBlank()) {
+            return new PageImpl<>(
+                    postRepository.findDtosByListed(true, pageRequest),
+                    pageRequest,
+                    postCounters.getListed()
+            );
+        }
+
+        PostSearchIndex.Hits hits = postSearchIndex.searchListed(keywordType, keyword, (int) pageRequest.getOffset(), pageSize);
+
+        return toPage(hits, pageRequest);
+    }
+
+    // getListedItems 와 같은 페이지의 id, 변경 시각, 댓글 수만 조회. 목록의 조건부 요청(304) 판단용
+    public Page<PostMetaDto> getListedItemsMeta(int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+        PageRequest pageRequest = PageRequest.of(page - 1, pageSize);
 
-        if (SearchKeywordType.TITLE == keywordType) {
-            return postRepository.findByListedAndContentLike(true, likeKeyword, pageRequest);
+        if (keyword.isBlank()) {
+            return new PageImpl<>(
+                    postRepository.findMetasByListed(true, pageRequest),
+                    pageRequest,
+                    postCounters.getListed()
+            );
         }
 
-        return postRepository.findByListedAndTitleLike(true, likeKeyword, pageRequest);
+        PostSearchIndex.Hits hits = postSearchIndex.searchListed(keywordType, keyword, (int) pageRequest.getOffset(), pageSize);
+
+        return toPage(hits, pageRequest, postRepository::findMetasByIdIn, PostMetaDto::id);
     }
 
-    public Page<Post> getMines(Member author, int page, int pageSize, SearchKeywordType keywordType, String keyword) {
+    public Page<PostDto> getMines(Member author, int page, int pageSize, SearchKeywordType keywordType, String keyword) {
         PageRequest pageRequest = PageRequest.of(page - 1, pageSize);
-        String likeKeyword = "%" + keyword + "%";
 
-        if (SearchKeywordType.CONTENT == keywordType) {
-            return postRepository.findByAuthorAndContentLike(author, likeKeyword, pageRequest);
+        if (keyword.isBlank()) {
+            return new PageImpl<>(
+                    postRepository.findDtosByAuthorId(author.getId(), pageRequest),
+                    pageRequest,
+                    postCounters.getByAuthor(author.getId())
+            );
+        }
+
+        PostSearchIndex.Hits hits = postSearchIndex.searchByAuthor(author.getId(), keywordType, keyword, (int) pageRequest.getOffset(), pageSize);
+
+        return toPage(hits, pageRequest);
+    }
+
+    // 색인이 정한 순서대로 해당 페이지의 글만 조회. 검색 결과 개수도 색인에서 바로 나온다.
+    private Page<PostDto> toPage(PostSearchIndex.Hits hits, PageRequest pageRequest) {
+        return toPage(hits, pageRequest, postRepository::findDtosByIdIn, PostDto::getId);
+    }
+
+    private <T> Page<T> toPage(PostSearchIndex.Hits hits,
+                               PageRequest pageRequest,
+                               Function<List<Long>, List<T>> findByIds,
+                               Function<T, Long> idOf) {
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageRequest, hits.totalItems());
+        }
+
+        Map<Long, T> rowsById = findByIds.apply(hits.ids())
+                .stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        List<T> rows = hits.ids()
+                .stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(rows, pageRequest, hits.totalItems());
+    }
+
+    public CursorPageDto getListedItemsByCursor(int pageSize, String after, String before) {
+        return getByCursor(
+                pageSize,
+                after,
+                before,
+                pageable -> postRepository.findListedLatest(true, pageable),
+                (cursor, pageable) -> postRepository.findListedOlderThan(true, cursor.createdDate(), cursor.id(), pageable),
+                (cursor, pageable) -> postRepository.findListedNewerThan(true, cursor.createdDate(), cursor.id(), pageable)
+        );
+    }
+
+    public CursorPageDto getMinesByCursor(Member author, int pageSize, String after, String before) {
+        long authorId = author.getId();
+
+        return getByCursor(
+                pageSize,
+                after,
+                before,
+                pageable -> postRepository.findByAuthorLatest(authorId, pageable),
+                (cursor, pageable) -> postRepository.findByAuthorOlderThan(authorId, cursor.createdDate(), cursor.id(), pageable),
+                (cursor, pageable) -> postRepository.findByAuthorNewerThan(authorId, cursor.createdDate(), cursor.id(), pageable)
+        );
+    }
+
+    // after: 더 오래된 글(다음 페이지), before: 더 최근 글(이전 페이지)
+    private CursorPageDto getByCursor(int pageSize,
+                                      String after,
+                                      String before,
+                                      Function<Pageable, List<PostDto>> first,
+                                      BiFunction<PostCursor, Pageable, List<PostDto>> older,
+                                      BiFunction<PostCursor, Pageable, List<PostDto>> newer) {
+        int size = Math.clamp(pageSize, 1, MAX_CURSOR_PAGE_SIZE);
+
+        // count 쿼리 없이 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        if (before != null) {
+            List<PostDto> posts = new ArrayList<>(newer.apply(PostCursor.decode(before), pageable));
+            boolean hasPrev = posts.size() > size;
+
+            if (hasPrev) {
+                posts.removeLast();
+            }
+
+            return new CursorPageDto(posts.reversed(), size, true, hasPrev);
+        }
+
+        List<PostDto> posts = new ArrayList<>(
+                after == null
+                        ? first.apply(pageable)
+                        : older.apply(PostCursor.decode(after), pageable)
+        );
+        boolean hasNext = posts.size() > size;
+
+        if (hasNext) {
+            posts.removeLast();
         }
 
-        return postRepository.findByAuthorAndTitleLike(author, likeKeyword, pageRequest);
+        return new CursorPageDto(posts, size, hasNext, after != null);
     }
 }
@@ -0,0 +1,8 @@
+package com.example.spring_doc.domain.statistics.statistics.dto;
+
+public record StatisticsDto(long postCount,
+                            long postPublishedCount,
+                            long postListedCount,
+                            long commentCount,
+                            long memberCount) {
+}
@@ -0,0 +1,24 @@
+package com.example.spring_doc.domain.statistics.statistics.entity;
+
+import com.example.spring_doc.global.entity.BaseEntity;
+import com.example.spring_doc.global.entity.BaseTime;
+import jakarta.persistence.Entity;
+import jakarta.persistence.SequenceGenerator;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+// 댓글/회원 수 메모리 카운터의 스냅샷. 재시작 시 count(*) 없이 이 값으로 카운터를 채운다.
+// 글 개수는 PostCounters 가 시작할 때 DB 에서 세므로 남기지 않는다.
+// 한 행만 두고 갱신하며, 스냅샷 시각은 modifiedDate
+@Entity
+@SequenceGenerator(name = BaseEntity.ID_GENERATOR, sequenceName = "statistics_rollup_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class StatisticsRollup extends BaseTime {
+
+    private long commentCount;
+    private long memberCount;
+}
@@ -0,0 +1,10 @@
+package com.example.spring_doc.domain.statistics.statistics.repository;
+
+import com.example.spring_doc.domain.statistics.statistics.entity.StatisticsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface StatisticsRollupRepository extends JpaRepository<StatisticsRollup, Long> {
+    Optional<StatisticsRollup> findTopByOrderByIdDesc();
+}
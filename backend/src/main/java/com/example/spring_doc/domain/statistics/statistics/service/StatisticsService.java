@@ -0,0 +1,111 @@
+package com.example.spring_doc.domain.statistics.statistics.service;
+
+import com.example.spring_doc.domain.member.member.event.MemberJoinedEvent;
+import com.example.spring_doc.domain.member.member.repository.MemberRepository;
+import com.example.spring_doc.domain.post.comment.event.CommentChangedEvent;
+import com.example.spring_doc.domain.post.comment.repository.CommentRepository;
+import com.example.spring_doc.domain.post.post.event.PostChangedEvent;
+import com.example.spring_doc.domain.post.post.service.PostCounters;
+import com.example.spring_doc.domain.statistics.statistics.dto.StatisticsDto;
+import com.example.spring_doc.domain.statistics.statistics.entity.StatisticsRollup;
+import com.example.spring_doc.domain.statistics.statistics.repository.StatisticsRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 통계 조회는 메모리 카운터만 읽는다. (count(*) 없음)
+// 글 개수는 PostCounters(시작 시 DB 와 맞춤), 댓글/회원 수는 여기서 이벤트로 증감하고
+// 주기적으로 DB 와 맞춘 뒤 statistics_rollup 에 스냅샷을 남겨서 재시작 시 그 값으로 시작한다.
+@Service
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    private final PostCounters postCounters;
+    private final CommentRepository commentRepository;
+    private final MemberRepository memberRepository;
+    private final StatisticsRollupRepository statisticsRollupRepository;
+
+    private final LongAdder comments = new LongAdder();
+    private final LongAdder members = new LongAdder();
+
+    public StatisticsDto getStatistics() {
+        return new StatisticsDto(
+                postCounters.getTotal(),
+                postCounters.getPublished(),
+                postCounters.getListed(),
+                comments.sum(),
+                members.sum()
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        switch (event.type()) {
+            case WRITTEN -> comments.increment();
+            case DELETED -> comments.decrement();
+            case MODIFIED -> {
+            }
+        }
+    }
+
+    // 글과 함께 cascade 로 지워진 댓글
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.after() == null) {
+            comments.add(-event.deletedCommentCount());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberJoined(MemberJoinedEvent event) {
+        members.increment();
+    }
+
+    // 스냅샷이 있으면 그 값으로, 없으면(첫 실행) DB 에서 세어서 시작한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        statisticsRollupRepository.findTopByOrderByIdDesc()
+                .ifPresentOrElse(
+                        rollup -> {
+                            adjust(comments, rollup.getCommentCount());
+                            adjust(members, rollup.getMemberCount());
+                        },
+                        this::reconcile
+                );
+    }
+
+    // DB 와 차이만큼 보정한 뒤 스냅샷을 갱신한다.
+    @Scheduled(
+            initialDelayString = "${custom.statistics.snapshot-delay-ms}",
+            fixedDelayString = "${custom.statistics.snapshot-delay-ms}"
+    )
+    @Transactional
+    public void snapshot() {
+        reconcile();
+
+        StatisticsDto statistics = getStatistics();
+        StatisticsRollup rollup = statisticsRollupRepository.findTopByOrderByIdDesc()
+                .orElseGet(StatisticsRollup::new);
+
+        rollup.setCommentCount(statistics.commentCount());
+        rollup.setMemberCount(statistics.memberCount());
+
+        statisticsRollupRepository.save(rollup);
+    }
+
+    private void reconcile() {
+        adjust(comments, commentRepository.count());
+        adjust(members, memberRepository.count());
+    }
+
+    private void adjust(LongAdder counter, long expected) {
+        counter.add(expected - counter.sum());
+    }
+}
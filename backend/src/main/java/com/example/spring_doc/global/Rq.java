@@ -1,65 +1,108 @@
 package com.example.spring_doc.global;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
-import com.example.spring_doc.domain.member.member.service.MemberService;
+import com.example.spring_doc.global.exception.ServiceErrors;
 import com.example.spring_doc.global.exception.ServiceException;
 import com.example.spring_doc.global.security.SecurityUser;
+import com.example.spring_doc.global.security.SecurityUserAuthentication;
+import com.example.spring_doc.global.security.SecurityUserCarrier;
+import com.example.spring_doc.standard.Ut;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.annotation.RequestScope;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
 
 // Request, Response, Session, Cookie, Header
+// 상태가 없는 싱글톤. request/response 는 호출하는 쪽(필터, 컨트롤러 파라미터)에서 넘긴다.
+// 현재 사용자는 컨트롤러 파라미터의 @Actor, @CurrentUser 로 받는다.
 @Component
 @RequiredArgsConstructor
-@RequestScope // request 마다 주입
 public class Rq {
 
-    private final HttpServletRequest request;
-    private final HttpServletResponse response;
-    private final MemberService memberService;
+    private final SecurityUserCarrier securityUserCarrier;
 
-    public void setLogin(Member writer) {
+    // 필터에서 SecurityUserCarrier 로도 넘길 수 있도록 만든 SecurityUser 를 돌려준다.
+    public SecurityUser setLogin(Member writer) {
 
-        UserDetails user = new SecurityUser(writer.getId(), writer.getUsername(), "", writer.getAuthorities());
+        SecurityUser user = new SecurityUser(writer.getId(), writer.getUsername(), "", writer.getRoles());
 
         // 인증 정보 저장소
-        SecurityContextHolder.getContext().setAuthentication(
-                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
-        );
+        SecurityContextHolder.getContext().setAuthentication(new SecurityUserAuthentication(user));
+
+        return user;
     }
 
-    public Member getActor() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null) {
-            throw new ServiceException("401-2", "로그인이 필요합니다.");
+    // 로그인하지 않았으면 null
+    public SecurityUser getSecurityUser() {
+        SecurityUser carried = securityUserCarrier.get();
+
+        if (carried != null) {
+            return carried;
         }
 
-        Object principal = authentication.getPrincipal();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (!(principal instanceof SecurityUser)) {
-            throw new ServiceException("401-3", "잘못된 인증 정보입니다.");
+        if (authentication == null || !(authentication.getPrincipal() instanceof SecurityUser user)) {
+            return null;
         }
 
-        SecurityUser user = (SecurityUser) principal;
+        return user;
+    }
+
+    // 비공개 글 조회처럼 경우에 따라서만 로그인이 필요한 곳에서 사용
+    // CustomAuthenticationFilter 를 거친 요청은 SecurityUserCarrier 에서 바로 읽는다.
+    public Member getActor() {
+        SecurityUser user = securityUserCarrier.get();
+
+        if (user == null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null) {
+                throw new ServiceException(ServiceErrors.LOGIN_REQUIRED);
+            }
+
+            if (!(authentication.getPrincipal() instanceof SecurityUser principal)) {
+                throw new ServiceException(ServiceErrors.INVALID_AUTH);
+            }
+
+            user = principal;
+        }
 
         return Member.builder()
                 .id(user.getId())
                 .username(user.getUsername())
+                .roles(user.getRoles())
                 .build();
     }
 
-    public String getHeader(String name) {
+    public String getHeader(HttpServletRequest request, String name) {
         return request.getHeader(name);
     }
 
-    public String getValueFromCookie(String name) {
+    // If-None-Match, If-Modified-Since 헤더가 있는 요청인지
+    public boolean isConditionalRequest(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // 약한 ETag 와 Last-Modified 를 응답 헤더에 넣고, 클라이언트가 가진 것과 같으면 304 로 응답한다.
+    // true 인 경우 컨트롤러는 본문 없이 null 을 반환하면 된다. 한 요청에서 한 번만 호출할 것.
+    public boolean checkNotModified(WebRequest webRequest, String tag, LocalDateTime lastModified) {
+        return checkNotModified(webRequest, tag, Ut.Time.toEpochMillis(lastModified));
+    }
+
+    public boolean checkNotModified(WebRequest webRequest, String tag, long lastModifiedMillis) {
+        return webRequest.checkNotModified("W/\"" + tag + "\"", lastModifiedMillis);
+    }
+
+    public String getValueFromCookie(HttpServletRequest request, String name) {
         Cookie[] cookies = request.getCookies();
         if (cookies == null) {
             return null;
@@ -74,11 +117,19 @@ public class Rq {
         return null;
     }
 
-    public void setHeader(String name, String value) {
+    public void setHeader(HttpServletResponse response, String name, String value) {
         response.setHeader(name, value);
     }
 
-    public void addCookie(String name, String value) {
+    // 미리 직렬화해 둔 JSON 본문을 그대로 쓴다. 컨트롤러 밖(필터, 시큐리티 핸들러)의 고정된 오류 응답용
+    public void writeJson(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public void addCookie(HttpServletResponse response, String name, String value) {
         Cookie accessTokenCookie = new Cookie(name, value);
 
         accessTokenCookie.setDomain("localhost");
@@ -90,11 +141,7 @@ public class Rq {
         response.addCookie(accessTokenCookie);
     }
 
-    public Member getRealActor(Member actor) {
-        return memberService.findById(actor.getId()).get();
-    }
-
-    public void removeCookie(String name) {
+    public void removeCookie(HttpServletResponse response, String name) {
         Cookie cookie = new Cookie(name, null);
         cookie.setDomain("localhost");
         cookie.setPath("/");
@@ -1,9 +1,18 @@
 package com.example.spring_doc.global.app;
 
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
 public class AppConfig {
 
-    public static boolean isNotProd() {
-        return true;
+    // Module 빈은 스프링의 ObjectMapper 에 자동 등록된다.
+    // ObjectMapper 보다 먼저 필요하므로 이 설정 객체를 만들지 않고도 얻을 수 있도록 static 으로 둔다.
+    @Bean
+    public static Module blackbirdModule() {
+        return new BlackbirdModule();
     }
 
 }
@@ -2,25 +2,34 @@ package com.example.spring_doc.global.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class RsData<T> {
-    private String code;
-    private String msg;
-    private T data;
+    private final String code;
+    private final String msg;
+    private final T data;
+
+    // code 앞부분("404-1" 의 404). 응답마다 자르지 않도록 만들 때 한 번만 계산한다.
+    @JsonIgnore
+    private final int statusCode;
+
+    public RsData(String code, String msg, T data) {
+        this.code = code;
+        this.msg = msg;
+        this.data = data;
+        this.statusCode = parseStatusCode(code);
+    }
 
     public RsData(String code, String msg) {
         this(code, msg, null);
     }
 
-    @JsonIgnore
-    public int getStatusCode() {
-        String statusCodeStr = code.split("-")[0];
-        return Integer.parseInt(statusCodeStr);
+    private static int parseStatusCode(String code) {
+        int end = code.indexOf('-');
+
+        return Integer.parseInt(code, 0, end == -1 ? code.length() : end, 10);
     }
 
 }
@@ -15,8 +15,15 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class BaseEntity {
 
+    // 엔티티마다 이 이름으로 @SequenceGenerator(post_seq 등)를 선언한다. 이름이 같아도 엔티티에 선언한 것이 먼저 쓰인다.
+    public static final String ID_GENERATOR = "id_seq";
+    // hibernate.jdbc.batch_size 와 같게 둔다. 한 번 시퀀스를 읽어 batch 하나만큼 id 를 받는다.
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     @Id // PRIMARY KEY
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT
+    // IDENTITY 는 insert 해야 id 를 알 수 있어 JDBC batch insert 가 꺼진다.
+    // IDENTITY 시절에 만든 테이블이면 IdSequenceInitializer 가 시작할 때 시퀀스를 max(id) + 1 로 올린다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
     @Setter(AccessLevel.PRIVATE)
     @EqualsAndHashCode.Include
     private Long id; // long -> null X, Long -> null O
@@ -1,7 +1,8 @@
 package com.example.spring_doc.global.exception;
 
-import com.example.spring_doc.global.app.AppConfig;
 import com.example.spring_doc.global.dto.RsData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,23 +12,25 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final boolean prod;
+
+    public GlobalExceptionHandler(Environment environment) {
+        this.prod = environment.matchesProfiles("prod");
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<RsData<Void>> handle(NoSuchElementException e) {
 
         // 개발 모드에서만 작동되도록.
-        if(AppConfig.isNotProd()) e.printStackTrace();
+        if (!prod) log.warn(e.getMessage(), e);
 
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
-                .body(
-                        new RsData<>(
-                                "404-1",
-                                "해당 데이터가 존재하지 않습니다"
-                        )
-                );
+                .body(ServiceErrors.NO_DATA);
     }
 
 
@@ -51,20 +54,16 @@ public class GlobalExceptionHandler {
     }
 
 
+    // 스택 트레이스가 없는 예외라 코드와 메시지만 남긴다.
     @ExceptionHandler(ServiceException.class)
-    public ResponseEntity<RsData<Void>> ServiceExceptionHandle(ServiceException ex) {
+    public ResponseEntity<RsData<?>> ServiceExceptionHandle(ServiceException ex) {
 
         // 개발 모드에서만 작동되도록.
-        if(AppConfig.isNotProd()) ex.printStackTrace();
+        if (!prod) log.debug("{} {}", ex.getCode(), ex.getMsg());
 
         return ResponseEntity
                 .status(ex.getStatusCode())
-                .body(
-                        new RsData<>(
-                                ex.getCode(),
-                                ex.getMsg()
-                        )
-                );
+                .body(ex.getRsData());
     }
 
 }
@@ -0,0 +1,26 @@
+package com.example.spring_doc.global.exception;
+
+import com.example.spring_doc.global.dto.RsData;
+
+// 자주 던지는 오류 응답. RsData 는 불변이므로 만들어 둔 것을 공유한다.
+public final class ServiceErrors {
+
+    public static final RsData<Void> NO_AUTH = new RsData<>("401-1", "인증 정보가 없습니다.");
+    public static final RsData<Void> LOGIN_REQUIRED = new RsData<>("401-2", "로그인이 필요합니다.");
+    public static final RsData<Void> INVALID_AUTH = new RsData<>("401-3", "잘못된 인증 정보입니다.");
+
+    public static final RsData<Void> POST_MODIFY_FORBIDDEN = new RsData<>("403-1", "자신이 작성한 글만 수정 가능합니다.");
+    public static final RsData<Void> POST_DELETE_FORBIDDEN = new RsData<>("403-1", "자신이 작성한 글만 삭제 가능합니다.");
+    public static final RsData<Void> POST_READ_FORBIDDEN = new RsData<>("403-1", "비공개 설정된 글입니다.");
+    public static final RsData<Void> COMMENT_MODIFY_FORBIDDEN = new RsData<>("403-1", "자신이 작성한 댓글만 수정 가능합니다.");
+
+    public static final RsData<Void> POST_NOT_FOUND = new RsData<>("404-1", "존재하지 않는 글입니다.");
+    public static final RsData<Void> PARENT_POST_NOT_FOUND = new RsData<>("404-1", "존재하지 않는 게시글입니다.");
+    public static final RsData<Void> COMMENT_NOT_FOUND = new RsData<>("404-2", "해당 댓글은 존재하지 않습니다.");
+    public static final RsData<Void> NO_DATA = new RsData<>("404-1", "해당 데이터가 존재하지 않습니다");
+
+    public static final RsData<Void> TOO_BUSY = new RsData<>("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+    private ServiceErrors() {
+    }
+}
@@ -2,13 +2,23 @@ package com.example.spring_doc.global.exception;
 
 import com.example.spring_doc.global.dto.RsData;
 
+// 404, 403, 401 처럼 정상적인 흐름에서 던지는 예외라 스택 트레이스를 만들지 않는다.
+// 자주 쓰는 오류는 ServiceErrors 의 RsData 를 그대로 넘긴다. 오류 응답에 data 가 필요하면 RsData 에 담아 넘긴다.
 public class ServiceException extends RuntimeException {
 
-    private RsData<?> rsData;
+    private final RsData<?> rsData;
 
     public ServiceException(String code, String message) {
-        super(message);
-        rsData = new RsData<>(code, message);
+        this(new RsData<>(code, message));
+    }
+
+    public ServiceException(RsData<?> rsData) {
+        super(rsData.getMsg(), null, false, false);
+        this.rsData = rsData;
+    }
+
+    public RsData<?> getRsData() {
+        return rsData;
     }
 
     public String getCode() {
@@ -1,6 +1,7 @@
 package com.example.spring_doc.global.init;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
+import com.example.spring_doc.domain.member.member.entity.MemberRole;
 import com.example.spring_doc.domain.member.member.service.MemberService;
 import com.example.spring_doc.domain.post.post.entity.Post;
 import com.example.spring_doc.domain.post.post.service.PostService;
@@ -35,12 +36,17 @@ public class BaseInitData {
     public void memberInit() {
 
         if (memberService.count() > 0) {
+            // 역할 컬럼이 생기기 전에 만든 admin 계정
+            memberService.findByUsername("admin")
+                    .filter(admin -> !admin.isAdmin())
+                    .ifPresent(admin -> admin.setRoles(MemberRole.toBits(MemberRole.ADMIN)));
+
             return;
         }
 
         // 회원 샘플데이터 생성
         memberService.join("system", "system1234", "시스템");
-        memberService.join("admin", "admin1234", "관리자");
+        memberService.join("admin", "admin1234", "관리자", MemberRole.ADMIN);
         memberService.join("user1", "user11234", "유저1");
         memberService.join("user2", "user21234", "유저2");
         memberService.join("user3", "user31234", "유저3");
@@ -58,11 +64,11 @@ public class BaseInitData {
         Member user2 = memberService.findByUsername("user2").get();
 
         Post p1 = postService.write(user1, "축구 하실분 모집합니다.", "저녁 6시까지 모여주세요.", true, true);
-        p1.addComment(user1, "저 참석하겠습니다.");
-        p1.addComment(user1, "공격수 자리 있나요?");
+        postService.writeComment(p1, user1, "저 참석하겠습니다.");
+        postService.writeComment(p1, user1, "공격수 자리 있나요?");
 
         Post p2 = postService.write(user1, "농구 하실분 모집합니다.", "3명 모집", true, false);
-        p2.addComment(user1, "저 갈게요.");
+        postService.writeComment(p2, user1, "저 갈게요.");
 
         postService.write(user2, "title3", "content3", false, true);
         postService.write(user1, "title4", "content4", true, true);
@@ -0,0 +1,53 @@
+package com.example.spring_doc.global.init;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+// id 를 IDENTITY(AUTO_INCREMENT)로 만들던 때의 DB(db_dev 등)에는 이미 id 가 들어 있는데,
+// ddl-auto=update 가 새로 만든 엔티티별 시퀀스(post_seq 등)는 1 부터 시작해서 같은 id 를 다시 준다.
+// 스키마가 만들어진 직후, 어떤 insert 보다 먼저 시퀀스를 max(id) + 1 이상으로 올려 둔다. 새 DB 에서는 하는 일이 없다.
+// 시퀀스 이름은 "<테이블>_seq" (BaseEntity.ID_GENERATOR 를 선언한 엔티티들)
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    // 같은 스키마에서 "<테이블>_seq" 짝이 맞는 시퀀스만
+    private static final String FIND_SEQUENCES = """
+            SELECT s.SEQUENCE_NAME, s.BASE_VALUE, t.TABLE_NAME
+            FROM INFORMATION_SCHEMA.SEQUENCES s
+            JOIN INFORMATION_SCHEMA.TABLES t
+              ON t.TABLE_SCHEMA = s.SEQUENCE_SCHEMA
+             AND UPPER(CONCAT(t.TABLE_NAME, '_SEQ')) = UPPER(s.SEQUENCE_NAME)
+            WHERE s.SEQUENCE_SCHEMA = SCHEMA()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate.executeWithoutResult(_ -> {
+            for (Map<String, Object> sequence : jdbcTemplate.queryForList(FIND_SEQUENCES)) {
+                String sequenceName = (String) sequence.get("SEQUENCE_NAME");
+                long next = ((Number) sequence.get("BASE_VALUE")).longValue();
+                Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + sequence.get("TABLE_NAME"), Long.class);
+
+                if (maxId == null || maxId < next) {
+                    continue;
+                }
+
+                jdbcTemplate.execute("ALTER SEQUENCE %s RESTART WITH %d".formatted(sequenceName, maxId + 1));
+                log.info("{} restarted at {} (was {})", sequenceName, maxId + 1, next);
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.spring_doc.global.rateLimit;
+
+import com.example.spring_doc.global.Rq;
+import com.example.spring_doc.global.dto.RsData;
+import com.example.spring_doc.global.security.SecurityUser;
+import com.example.spring_doc.standard.rateLimit.TokenBucketLimiter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 로그인, 가입, 글/댓글 작성 요청 수 제한.
+// CustomAuthenticationFilter 뒤에서 동작해 인증된 요청은 회원 id 로, 아니면 접속 IP 로 센다.
+// 인증되지 않은 apiKey 는 클라이언트가 마음대로 바꿀 수 있으므로 키로 쓰지 않는다.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum RouteGroup {
+        LOGIN("login", "POST", "/api/*/members/login"),
+        JOIN("join", "POST", "/api/*/members/join"),
+        POST_WRITE("post-write", "POST", "/api/*/posts"),
+        COMMENT_WRITE("comment-write", "POST", "/api/*/posts/{postId}/comments");
+
+        private final String propertyName;
+        private final String method;
+        private final PathPattern pattern;
+
+        RouteGroup(String propertyName, String method, String pattern) {
+            this.propertyName = propertyName;
+            this.method = method;
+            this.pattern = PathPatternParser.defaultInstance.parse(pattern);
+        }
+
+        static RouteGroup of(HttpServletRequest request) {
+            PathContainer path = null;
+
+            for (RouteGroup group : values()) {
+                if (!group.method.equals(request.getMethod())) {
+                    continue;
+                }
+
+                if (path == null) {
+                    path = PathContainer.parsePath(request.getRequestURI());
+                }
+
+                if (group.pattern.matches(path)) {
+                    return group;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private final Rq rq;
+    // 거절 응답은 매번 만들지 않고 미리 직렬화해 둔다.
+    private final byte[] tooManyRequestsBody;
+    private final boolean enabled;
+    private final Map<RouteGroup, TokenBucketLimiter> limiters = new EnumMap<>(RouteGroup.class);
+
+    public RateLimitFilter(Rq rq,
+                           ObjectMapper objectMapper,
+                           Environment environment,
+                           @Value("${custom.rate-limit.enabled}") boolean enabled) throws JsonProcessingException {
+        this.rq = rq;
+        this.enabled = enabled;
+        this.tooManyRequestsBody = objectMapper.writeValueAsBytes(
+                new RsData<Void>("429-1", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+        );
+
+        for (RouteGroup group : RouteGroup.values()) {
+            String prefix = "custom.rate-limit." + group.propertyName;
+            long capacity = environment.getRequiredProperty(prefix + ".capacity", Long.class);
+            long refillSeconds = environment.getRequiredProperty(prefix + ".refill-seconds", Long.class);
+
+            limiters.put(group, new TokenBucketLimiter(capacity, refillSeconds * 1000));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = RouteGroup.of(request);
+
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterMillis = limiters.get(group).acquireOrRetryAfterMillis(keyOf(request));
+
+        if (retryAfterMillis == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 이 키의 버킷에 다음 토큰이 찰 때까지 남은 시간(초, 올림)
+        rq.setHeader(response, HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+        rq.writeJson(response, 429, tooManyRequestsBody);
+    }
+
+    private String keyOf(HttpServletRequest request) {
+        SecurityUser user = rq.getSecurityUser();
+
+        if (user != null) {
+            return "m:" + user.getId();
+        }
+
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.spring_doc.global.security;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터로 현재 로그인한 회원(Member)을 받는다. 로그인하지 않았으면 401.
+// 기본은 인증 정보(id, username)만 담은 Member, real = true 면 회원 스냅샷 캐시에서 채운 Member.
+@Target(ElementType.PARAMETER)
+@Parameter(hidden = true) // API 문서에는 노출하지 않음
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Actor {
+
+    boolean real() default false;
+}
@@ -0,0 +1,50 @@
+package com.example.spring_doc.global.security;
+
+import com.example.spring_doc.domain.member.member.entity.Member;
+import com.example.spring_doc.domain.member.member.service.MemberService;
+import com.example.spring_doc.global.Rq;
+import com.example.spring_doc.global.exception.ServiceErrors;
+import com.example.spring_doc.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @Actor Member, @CurrentUser SecurityUser 파라미터를 SecurityContext 에서 채운다.
+@Component
+@RequiredArgsConstructor
+public class ActorArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final Rq rq;
+    private final MemberService memberService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return (parameter.hasParameterAnnotation(Actor.class) && parameter.getParameterType() == Member.class)
+                || (parameter.hasParameterAnnotation(CurrentUser.class) && parameter.getParameterType() == SecurityUser.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+
+        if (parameter.getParameterType() == SecurityUser.class) {
+            return rq.getSecurityUser();
+        }
+
+        Member actor = rq.getActor();
+
+        if (!parameter.getParameterAnnotation(Actor.class).real()) {
+            return actor;
+        }
+
+        return memberService.getSnapshot(actor.getId())
+                .orElseThrow(() -> new ServiceException(ServiceErrors.INVALID_AUTH))
+                .toMember();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.spring_doc.global.security;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터로 인증 정보(SecurityUser)를 그대로 받는다. 로그인하지 않았으면 null.
+@Target(ElementType.PARAMETER)
+@Parameter(hidden = true) // API 문서에는 노출하지 않음
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
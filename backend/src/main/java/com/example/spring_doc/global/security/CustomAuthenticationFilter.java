@@ -1,6 +1,7 @@
 package com.example.spring_doc.global.security;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
+import com.example.spring_doc.domain.member.member.service.MemberApiKeyCache;
 import com.example.spring_doc.domain.member.member.service.MemberService;
 import com.example.spring_doc.global.Rq;
 import jakarta.servlet.FilterChain;
@@ -21,9 +22,10 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     private final Rq rq;
     private final MemberService memberService;
+    private final SecurityUserCarrier securityUserCarrier;
 
-    private boolean isAuthorizationHeader() {
-        String authorizationHeader = rq.getHeader("Authorization");
+    private boolean isAuthorizationHeader(HttpServletRequest request) {
+        String authorizationHeader = rq.getHeader(request, "Authorization");
 
         if (authorizationHeader == null) {
             return false;
@@ -35,9 +37,9 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
     record AuthToken(String apiKey, String accessToken) {
     }
 
-    private AuthToken getAuthTokenFromRequest() {
-        if (isAuthorizationHeader()) {
-            String authorizationHeader = rq.getHeader("Authorization");
+    private AuthToken getAuthTokenFromRequest(HttpServletRequest request) {
+        if (isAuthorizationHeader(request)) {
+            String authorizationHeader = rq.getHeader(request, "Authorization");
             String authToken = authorizationHeader.replaceAll("Bearer ", "");
 
             String[] tokenBits = authToken.split(" ");
@@ -49,8 +51,8 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return new AuthToken(tokenBits[0], tokenBits[1]);
         }
 
-        String accessToken = rq.getValueFromCookie("accessToken");
-        String apiKey = rq.getValueFromCookie("apiKey");
+        String accessToken = rq.getValueFromCookie(request, "accessToken");
+        String apiKey = rq.getValueFromCookie(request, "apiKey");
 
         if (accessToken == null || apiKey == null) {
             return null;
@@ -59,24 +61,23 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         return new AuthToken(apiKey, accessToken);
     }
 
-    private Member getMemberByAccessToken(String apiKey, String accessToken) {
+    private Member getMemberByAccessToken(HttpServletResponse response, String apiKey, String accessToken) {
         Optional<Member> opAccMember = memberService.getMemberByAccessToken(accessToken);
 
         if (opAccMember.isPresent()) {
             return opAccMember.get();
         }
 
-        Optional<Member> opApiMember = memberService.findByApiKey(apiKey);
+        Optional<MemberApiKeyCache.Reissued> opReissued = memberService.reissueAccessToken(apiKey);
 
-        if (opApiMember.isEmpty()) {
+        if (opReissued.isEmpty()) {
             return null;
         }
 
-        String newAccessToken = memberService.genAccessToken(opApiMember.get());
-        rq.addCookie("accessToken", newAccessToken);
-        rq.addCookie("apiKey", apiKey);
+        rq.addCookie(response, "accessToken", opReissued.get().accessToken());
+        rq.addCookie(response, "apiKey", apiKey);
 
-        return opApiMember.get();
+        return opReissued.get().member().toMember();
     }
 
     @Override
@@ -89,20 +90,20 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        AuthToken tokens = getAuthTokenFromRequest();
+        AuthToken tokens = getAuthTokenFromRequest(request);
         if (tokens == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
         // 재발급 코드
-        Member writer = getMemberByAccessToken(tokens.apiKey, tokens.accessToken);
+        Member writer = getMemberByAccessToken(response, tokens.apiKey, tokens.accessToken);
         if (writer == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        rq.setLogin(writer);
-        filterChain.doFilter(request, response);
+        SecurityUser user = rq.setLogin(writer);
+        securityUserCarrier.doFilter(user, filterChain, request, response);
     }
 }
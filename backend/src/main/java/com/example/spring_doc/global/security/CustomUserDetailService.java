@@ -20,6 +20,6 @@ public class CustomUserDetailService implements UserDetailsService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
-        return new SecurityUser(member.getId(), member.getUsername(), member.getPassword(), member.getAuthorities());
+        return new SecurityUser(member.getId(), member.getUsername(), member.getPassword(), member.getRoles());
     }
 }
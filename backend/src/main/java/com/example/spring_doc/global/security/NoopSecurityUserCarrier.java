@@ -0,0 +1,27 @@
+package com.example.spring_doc.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 기본값. 사용자는 SecurityContextHolder 에만 있다.
+@Component
+public class NoopSecurityUserCarrier implements SecurityUserCarrier {
+
+    @Override
+    public SecurityUser get() {
+        return null;
+    }
+
+    @Override
+    public void doFilter(SecurityUser user,
+                         FilterChain filterChain,
+                         ServletRequest request,
+                         ServletResponse response) throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.spring_doc.global.security;
 
+import com.example.spring_doc.global.Rq;
 import com.example.spring_doc.global.dto.RsData;
-import com.example.spring_doc.standard.Ut;
+import com.example.spring_doc.global.rateLimit.RateLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,23 +20,36 @@ import org.springframework.security.web.header.writers.frameoptions.XFrameOption
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final Rq rq;
+    private final ObjectMapper objectMapper;
     private final CustomAuthenticationFilter customAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // 인증/인가 실패 응답은 내용이 항상 같으므로 한 번만 직렬화해 둔다.
+        byte[] unauthorizedBody = objectMapper.writeValueAsBytes(new RsData<Void>("401-1", "잘못된 인증키입니다."));
+        byte[] forbiddenBody = objectMapper.writeValueAsBytes(new RsData<Void>("403-1", "접근 권한이 없습니다."));
+
         http
                 .authorizeHttpRequests((auth) -> auth
+                        // 스트리밍 응답의 비동기 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
                         .requestMatchers("/h2-console/**")
                         .permitAll()
                         .requestMatchers(HttpMethod.GET,
                                 "/api/*/posts/{id:\\d+}",
                                 "/api/*/posts",
+                                "/api/*/posts/cursor",
                                 "/api/*/posts/{postId:\\d+}/comments")
                         .permitAll()
                         .requestMatchers("/api/*/members/login", "/api/*/members/join", "/api/*/members/logout")
                         .permitAll()
                         .requestMatchers("api/v1/posts/statistics")
                         .hasRole("ADMIN")
+                        .requestMatchers("/api/*/adm/**")
+                        .hasRole("ADMIN")
                         .requestMatchers("/api/*/**")
                         .authenticated()
                         .anyRequest()
@@ -44,29 +60,17 @@ public class SecurityConfig {
                                 XFrameOptionsHeaderWriter.XFrameOptionsMode.SAMEORIGIN)))
                 .csrf(csrf -> csrf.disable())
                 .addFilterBefore(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 인증된 요청은 회원 단위로 세도록 인증 필터 뒤에 둔다.
+                .addFilterAfter(rateLimitFilter, CustomAuthenticationFilter.class)
                 .exceptionHandling(
                         exceptionHandling -> exceptionHandling
                                 .authenticationEntryPoint(
-                                        ((request, response, authException) -> {
-                                            response.setStatus(401);
-                                            response.setContentType("application/json;charset=UTF-8");
-                                            response.getWriter().write(
-                                                    Ut.Json.toString(
-                                                            new RsData<Void>("401-1", "잘못된 인증키입니다.")
-                                                    )
-                                            );
-                                        })
+                                        ((request, response, authException) ->
+                                                rq.writeJson(response, 401, unauthorizedBody))
                                 )
                                 .accessDeniedHandler(
-                                        ((request, response, authException) -> {
-                                            response.setStatus(403);
-                                            response.setContentType("application/json;charset=UTF-8");
-                                            response.getWriter().write(
-                                                    Ut.Json.toString(
-                                                            new RsData<Void>("403-1", "접근 권한이 없습니다.")
-                                                    )
-                                            );
-                                        })
+                                        ((request, response, accessDeniedException) ->
+                                                rq.writeJson(response, 403, forbiddenBody))
                                 )
                 );
         return http.build();
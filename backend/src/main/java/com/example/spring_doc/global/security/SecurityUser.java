@@ -1,18 +1,27 @@
 package com.example.spring_doc.global.security;
 
+import com.example.spring_doc.domain.member.member.entity.MemberRole;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-
-import java.util.Collection;
+import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.List;
 
+// User 는 생성할 때마다 권한을 정렬된 Set 으로 복사하므로 직접 구현한다.
+// 권한 목록은 역할 비트마스크별로 미리 만들어 둔 것을 그대로 쓴다.
 @Getter
-public class SecurityUser extends User {
-    private long id;
+public class SecurityUser implements UserDetails {
+    private final long id;
+    private final String username;
+    private final String password;
+    private final int roles;
+    private final List<GrantedAuthority> authorities;
 
-    public SecurityUser(long id, String username, String password, Collection<? extends GrantedAuthority> authorities) {
-        super(username, password, authorities);
+    public SecurityUser(long id, String username, String password, int roles) {
         this.id = id;
+        this.username = username;
+        this.password = password;
+        this.roles = roles;
+        this.authorities = MemberRole.authorities(roles);
     }
 }
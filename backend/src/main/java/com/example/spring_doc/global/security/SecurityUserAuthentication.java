@@ -0,0 +1,58 @@
+package com.example.spring_doc.global.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+// 토큰으로 인증된 요청의 Authentication.
+// UsernamePasswordAuthenticationToken 과 달리 권한 목록을 복사하지 않고 SecurityUser 의 것을 그대로 쓴다.
+public class SecurityUserAuthentication implements Authentication {
+
+    private final SecurityUser user;
+    private boolean authenticated = true;
+
+    public SecurityUserAuthentication(SecurityUser user) {
+        this.user = user;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public SecurityUser getPrincipal() {
+        return user;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    // 인증 해제만 허용
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("인증 상태는 생성할 때만 정할 수 있습니다.");
+        }
+
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return user.getUsername();
+    }
+}
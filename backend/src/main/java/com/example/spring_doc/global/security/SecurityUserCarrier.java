@@ -0,0 +1,22 @@
+package com.example.spring_doc.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import java.io.IOException;
+
+// CustomAuthenticationFilter 가 인증한 사용자를 나머지 필터 체인 동안 들고 있는 곳. Rq 가 SecurityContextHolder 보다 먼저 읽는다.
+// 기본 빌드는 NoopSecurityUserCarrier(아무것도 들지 않음),
+// 가상 스레드 빌드(./gradlew -Pvt)에 vt 프로필이면 ScopedValueSecurityUserCarrier(src/vt) 를 쓴다.
+public interface SecurityUserCarrier {
+
+    // 들고 있지 않으면 null
+    SecurityUser get();
+
+    void doFilter(SecurityUser user,
+                  FilterChain filterChain,
+                  ServletRequest request,
+                  ServletResponse response) throws ServletException, IOException;
+}
@@ -0,0 +1,36 @@
+package com.example.spring_doc.global.webMvc;
+
+import com.example.spring_doc.global.dto.RsData;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 컨트롤러가 RsData 를 반환하면 그 code 의 상태 코드로 응답한다.
+// ResponseEntity 로 반환하는 경우(예외 처리기 등)는 지정한 상태를 그대로 둔다.
+@RestControllerAdvice
+public class RsDataResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return RsData.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (body instanceof RsData<?> rsData && response instanceof ServletServerHttpResponse servletResponse) {
+            servletResponse.getServletResponse().setStatus(rsData.getStatusCode());
+        }
+
+        return body;
+    }
+}
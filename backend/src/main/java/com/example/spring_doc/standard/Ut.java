@@ -2,15 +2,22 @@ package com.example.spring_doc.standard;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 import javax.crypto.SecretKey;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Ut {
     public static class Json {
+        // 스프링 빈이 아닌 곳(벤치마크 등)에서 쓰는 기본 설정. 스프링 빈은 주입받은 ObjectMapper 를 쓴다.
         private static final ObjectMapper objectMapper = new ObjectMapper();
 
         public static String toString(Object obj) {
@@ -22,34 +29,76 @@ public class Ut {
         }
     }
 
+    public static class Time {
+        // null 이면 -1 (WebRequest.checkNotModified 에서 "값 없음")
+        public static long toEpochMillis(LocalDateTime dateTime) {
+            return dateTime == null
+                    ? -1
+                    : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+
     public static class Jwt {
 
+        // 키 문자열마다 SecretKey 와 파서를 한 번만 만든다. (둘 다 불변이라 스레드 간 공유 가능)
+        private static final Map<String, SecretKey> secretKeys = new ConcurrentHashMap<>();
+        private static final Map<String, JwtParser> parsers = new ConcurrentHashMap<>();
+
+        private static SecretKey secretKey(String keyString) {
+            return secretKeys.computeIfAbsent(keyString, k -> Keys.hmacShaKeyFor(k.getBytes()));
+        }
+
+        private static JwtParser parser(String keyString) {
+            return parsers.computeIfAbsent(keyString, k -> Jwts.parser().verifyWith(secretKey(k)).build());
+        }
+
+        // access token 에 담기는 값 (roles 는 MemberRole 비트마스크, iat, exp 는 epoch 초)
+        public record AccessTokenClaims(long id, String username, int roles, long issuedAt, long expiresAt) {
+        }
+
+        public static String createAccessToken(String keyString, int expireSeconds, long id, String username, int roles) {
+            return createToken(keyString, expireSeconds, Map.of("id", id, "username", username, "r", roles));
+        }
+
+        // 유효하지 않으면 null. 만료 시각(exp)이 없는 토큰도 거절한다.
+        public static AccessTokenClaims parseAccessToken(String keyString, String token) {
+            Claims claims = parseClaims(keyString, token);
+
+            if (claims == null
+                    || claims.getExpiration() == null
+                    || !(claims.get("id") instanceof Number id)
+                    || !(claims.get("username") instanceof String username)
+                    || !(claims.get("r") instanceof Number roles)) {
+                return null;
+            }
+
+            return new AccessTokenClaims(
+                    id.longValue(),
+                    username,
+                    roles.intValue(),
+                    claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime() / 1000,
+                    claims.getExpiration().getTime() / 1000
+            );
+        }
+
         public static String createToken(String keyString, int expireSeconds, Map<String, Object> claims) {
             Date issuedAt = new Date();
             Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
 
-            SecretKey secretKey= Keys.hmacShaKeyFor(keyString.getBytes());
-
             // 증서 만들기
             return Jwts.builder()
                     .claims(claims)
                     .issuedAt(issuedAt)
                     .expiration(expiration)
-                    .signWith(secretKey)
+                    .signWith(secretKey(keyString))
                     .compact();
         }
 
         public static boolean isValidToken(String keyString, String token) {
             try {
-                SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
-
-                Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parse(token);
+                parser(keyString).parse(token);
             } catch (Exception e) {
-                e.printStackTrace();
+                // 만료되거나 위조된 토큰은 흔하므로 스택 트레이스를 남기지 않는다.
                 return false;
             }
 
@@ -57,14 +106,20 @@ public class Ut {
         }
 
         public static Map<String, Object> getPayload(String keyString, String token) {
-            SecretKey secretKey = Keys.hmacShaKeyFor(keyString.getBytes());
-
-            return (Map<String, Object>) Jwts
-                    .parser()
-                    .verifyWith(secretKey)
-                    .build()
+            return (Map<String, Object>) parser(keyString)
                     .parse(token)
                     .getPayload();
         }
+
+        // 서명 검증과 디코딩을 한 번에 한다. 유효하지 않으면 null
+        public static Claims parseClaims(String keyString, String token) {
+            try {
+                return parser(keyString)
+                        .parseSignedClaims(token)
+                        .getPayload();
+            } catch (JwtException | IllegalArgumentException e) {
+                return null;
+            }
+        }
     }
 }
@@ -0,0 +1,414 @@
+package com.example.spring_doc.standard.cache;
+
+import com.example.spring_doc.standard.pool.ObjectPool;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 값(byte[])을 힙 밖의 고정 크기 슬랩에 보관하는 LRU 캐시.
+// 슬랩은 blockSize 단위 블록으로 나뉘고, 한 값은 여러 블록에 나뉘어 저장된다. 힙에는 블록 번호 인덱스만 남는다.
+// 잠금 경합을 줄이려고 키 해시로 나눈 구역(segment)마다 블록, 인덱스, lock 을 따로 둔다.
+// 그래서 LRU 순서와 한 값의 최대 크기(구역의 1/8)는 구역 단위이고, 한 구역이 차면 다른 구역에 여유가 있어도 그 구역에서 밀어낸다.
+public class OffHeapLruCache<K> implements AutoCloseable {
+
+    public record Stats(long hits,
+                        long misses,
+                        long evictions,
+                        long rejections,
+                        long size,
+                        long usedBytes,
+                        long budgetBytes) {
+    }
+
+    // 저장할 때 ByteBuffer 기본값(big endian)으로 쓴 값을 그대로 읽는다.
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    // readers, removed 는 해당 구역의 lock 안에서만 읽고 쓴다.
+    private static final class Entry {
+        private final int[] blocks;
+        private final int length;
+        private int readers;
+        private boolean removed;
+
+        private Entry(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+    }
+
+    // 잠금 없이 값을 읽기 위한 대여. 대여 중에 밀려나거나 무효화된 항목의 블록은 close 될 때 회수된다.
+    public final class Lease implements AutoCloseable {
+        private final Segment segment;
+        private final Entry entry;
+        private boolean closed;
+
+        private Lease(Segment segment, Entry entry) {
+            this.segment = segment;
+            this.entry = entry;
+        }
+
+        public int length() {
+            return entry.length;
+        }
+
+        // 블록 경계에 걸치지 않으면 슬랩에서 바로 읽는다.
+        public long getLong(int offset) {
+            if (offset % blockSize + Long.BYTES <= blockSize) {
+                return slab.get(LONG, address(offset));
+            }
+
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = value << 8 | getByte(offset + i) & 0xFF;
+            }
+
+            return value;
+        }
+
+        public short getShort(int offset) {
+            if (offset % blockSize + Short.BYTES <= blockSize) {
+                return slab.get(SHORT, address(offset));
+            }
+
+            return (short) ((getByte(offset) & 0xFF) << 8 | getByte(offset + 1) & 0xFF);
+        }
+
+        private byte getByte(int offset) {
+            return slab.get(ValueLayout.JAVA_BYTE, address(offset));
+        }
+
+        // 블록 크기 이하면 풀의 버퍼를 거쳐서 만든다. 만들어지는 String 외에는 할당하지 않는다.
+        public String getString(int offset, int length) {
+            byte[] buffer = length <= blockSize ? buffers.borrow() : new byte[length];
+
+            try {
+                copyTo(offset, buffer, 0, length);
+
+                return new String(buffer, 0, length, StandardCharsets.UTF_8);
+            } finally {
+                if (buffer.length == blockSize) {
+                    buffers.release(buffer);
+                }
+            }
+        }
+
+        public void copyTo(int offset, byte[] dst, int dstOffset, int length) {
+            int end = offset + length;
+
+            while (offset < end) {
+                int chunk = Math.min(blockSize - offset % blockSize, end - offset);
+
+                MemorySegment.copy(slab, ValueLayout.JAVA_BYTE, address(offset), dst, dstOffset, chunk);
+                offset += chunk;
+                dstOffset += chunk;
+            }
+        }
+
+        // 블록 크기 버퍼 하나로 offset 부터 끝까지 흘려보낸다. 값 전체를 힙에 올리지 않는다.
+        // 버퍼는 풀에서 빌려 쓰고 돌려준다.
+        public void writeTo(int offset, OutputStream out) throws IOException {
+            byte[] buffer = buffers.borrow();
+
+            try {
+                while (offset < entry.length) {
+                    int chunk = Math.min(buffer.length, entry.length - offset);
+                    copyTo(offset, buffer, 0, chunk);
+                    out.write(buffer, 0, chunk);
+                    offset += chunk;
+                }
+            } finally {
+                buffers.release(buffer);
+            }
+        }
+
+        private long address(int offset) {
+            return (long) entry.blocks[offset / blockSize] * blockSize + offset % blockSize;
+        }
+
+        @Override
+        public void close() {
+            segment.lock.lock();
+
+            try {
+                if (closed) {
+                    return;
+                }
+
+                closed = true;
+                entry.readers--;
+
+                if (entry.removed) {
+                    segment.free(entry);
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    // 슬랩의 [firstBlock, firstBlock + blockCount) 블록을 맡는 구역
+    private final class Segment {
+        private final int blockCount;
+        private final int maxBlocksPerEntry;
+        private final int[] freeBlocks;
+        private int freeCount;
+        private final LinkedHashMap<K, Entry> index = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Segment(int firstBlock, int blockCount) {
+            this.blockCount = blockCount;
+            // 한 값이 구역의 1/8 을 넘으면 다른 항목을 너무 많이 밀어내므로 캐시하지 않는다.
+            this.maxBlocksPerEntry = Math.max(1, blockCount / 8);
+
+            this.freeBlocks = new int[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                freeBlocks[i] = firstBlock + blockCount - 1 - i;
+            }
+            this.freeCount = blockCount;
+        }
+
+        private Lease acquire(K key) {
+            lock.lock();
+
+            try {
+                Entry entry = closed ? null : index.get(key);
+
+                if (entry == null) {
+                    misses.increment();
+                    return null;
+                }
+
+                hits.increment();
+                entry.readers++;
+
+                return new Lease(this, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean put(K key, byte[] value) {
+            int needed = Math.max(1, (value.length + blockSize - 1) / blockSize);
+
+            if (needed > maxBlocksPerEntry) {
+                rejections.increment();
+                return false;
+            }
+
+            lock.lock();
+
+            try {
+                if (closed) {
+                    return false;
+                }
+
+                release(index.remove(key));
+
+                // 가장 오래 안 쓰인 항목부터 블록 회수
+                Iterator<Map.Entry<K, Entry>> eldest = index.entrySet().iterator();
+                while (freeCount < needed && eldest.hasNext()) {
+                    release(eldest.next().getValue());
+                    eldest.remove();
+                    evictions.increment();
+                }
+
+                // 남은 항목이 모두 대여 중이라 블록을 돌려받지 못한 경우
+                if (freeCount < needed) {
+                    rejections.increment();
+                    return false;
+                }
+
+                int[] blocks = new int[needed];
+                int copied = 0;
+
+                for (int i = 0; i < needed; i++) {
+                    blocks[i] = freeBlocks[--freeCount];
+
+                    int length = Math.min(blockSize, value.length - copied);
+                    MemorySegment.copy(value, copied, slab, ValueLayout.JAVA_BYTE, (long) blocks[i] * blockSize, length);
+                    copied += length;
+                }
+
+                index.put(key, new Entry(blocks, value.length));
+
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void invalidate(K key) {
+            lock.lock();
+
+            try {
+                release(index.remove(key));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void invalidateAll() {
+            lock.lock();
+
+            try {
+                index.values().forEach(this::release);
+                index.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 인덱스에서 빠진 항목. 읽는 중이면 블록 회수는 마지막 Lease 가 닫힐 때로 미룬다.
+        private void release(Entry entry) {
+            if (entry == null) {
+                return;
+            }
+
+            entry.removed = true;
+
+            if (entry.readers == 0) {
+                free(entry);
+            }
+        }
+
+        private void free(Entry entry) {
+            if (entry.readers != 0 || closed) {
+                return;
+            }
+
+            for (int block : entry.blocks) {
+                freeBlocks[freeCount++] = block;
+            }
+        }
+    }
+
+    private final Arena arena = Arena.ofShared();
+    private final MemorySegment slab;
+    private final int blockSize;
+    private final Segment[] segments;
+    private final int segmentMask;
+    // 블록 하나 크기의 복사용 버퍼
+    private final ObjectPool<byte[]> buffers;
+    // 모든 구역의 lock 을 잡고 바꾸므로, 어느 구역의 lock 안에서 읽어도 된다.
+    private boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    // 구역 수는 CPU 수 정도로 하되, 구역마다 최소 64 블록은 남긴다.
+    public OffHeapLruCache(long budgetBytes, int blockSize) {
+        this(budgetBytes, blockSize, Math.min(Runtime.getRuntime().availableProcessors(), (int) Math.min(Integer.MAX_VALUE, budgetBytes / blockSize / 64)));
+    }
+
+    // segments 는 2 의 거듭제곱으로 내림한다.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public OffHeapLruCache(long budgetBytes, int blockSize, int segments) {
+        this.blockSize = blockSize;
+        int blockCount = (int) Math.min(Integer.MAX_VALUE, budgetBytes / blockSize);
+        this.slab = arena.allocate((long) blockCount * blockSize, 64);
+        this.buffers = new ObjectPool<>(() -> new byte[blockSize]);
+
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(segments, blockCount)));
+        int blocksPerSegment = blockCount / segmentCount;
+
+        this.segments = (Segment[]) new OffHeapLruCache.Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // 나누어 떨어지지 않고 남는 블록은 마지막 구역이 맡는다.
+            int count = i == segmentCount - 1 ? blockCount - i * blocksPerSegment : blocksPerSegment;
+            this.segments[i] = new Segment(i * blocksPerSegment, count);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    private Segment segmentFor(K key) {
+        int hash = key.hashCode();
+
+        return segments[(hash ^ hash >>> 16) & segmentMask];
+    }
+
+    // 없으면 null. 받은 Lease 는 반드시 close 해야 한다.
+    public Lease acquire(K key) {
+        return segmentFor(key).acquire(key);
+    }
+
+    public boolean put(K key, byte[] value) {
+        return segmentFor(key).put(key, value);
+    }
+
+    public void invalidate(K key) {
+        segmentFor(key).invalidate(key);
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.invalidateAll();
+        }
+    }
+
+    // 구역마다 잠깐씩 lock 을 잡으므로 전체가 한 시점의 값은 아니다.
+    public Stats stats() {
+        long size = 0;
+        long usedBlocks = 0;
+        long totalBlocks = 0;
+
+        for (Segment segment : segments) {
+            segment.lock.lock();
+
+            try {
+                size += segment.index.size();
+                usedBlocks += segment.blockCount - segment.freeCount;
+                totalBlocks += segment.blockCount;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+
+        return new Stats(
+                hits.sum(),
+                misses.sum(),
+                evictions.sum(),
+                rejections.sum(),
+                size,
+                usedBlocks * blockSize,
+                totalBlocks * blockSize
+        );
+    }
+
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+        }
+
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            for (Segment segment : segments) {
+                segment.index.clear();
+            }
+
+            arena.close();
+        } finally {
+            for (Segment segment : segments) {
+                segment.lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.example.spring_doc.standard.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// 크기(weight) 기준으로 제한되는 W-TinyLFU 캐시.
+// 새 항목은 작은 window LRU 에 들어가고, window 에서 밀려난 항목은 main LRU 의 희생자보다 자주 쓰였을 때만 입장한다.
+// 조회는 ConcurrentHashMap 으로 lock 없이 하고, LRU 순서 갱신은 lock 을 얻을 수 있을 때만 한다.
+public class TinyLfuCache<K, V> {
+
+    public record Stats(long hits,
+                        long misses,
+                        long evictions,
+                        long rejections,
+                        long size,
+                        long weight,
+                        long maximumWeight) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        final long expiresAt;
+        boolean inWindow;
+        boolean alive = true;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value, long weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    // head 가 가장 오래 안 쓰인 항목
+    private static final class AccessOrder<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        long weight;
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+
+            tail = node;
+            weight += node.weight;
+        }
+
+        void unlink(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+
+            node.prev = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (tail == node) {
+                return;
+            }
+
+            unlink(node);
+            addLast(node);
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            weight = 0;
+        }
+    }
+
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long ttlNanos;
+    private final ToLongFunction<V> weigher;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AccessOrder<K, V> window = new AccessOrder<>();
+    private final AccessOrder<K, V> main = new AccessOrder<>();
+    private final FrequencySketch sketch;
+    private volatile long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public TinyLfuCache(long maximumWeight, int expectedEntries, Duration ttl, ToLongFunction<V> weigher) {
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, maximumWeight / 100);
+        this.ttlNanos = ttl.toNanos();
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    public V get(K key) {
+        sketch.increment(key);
+
+        Node<K, V> node = data.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (node.isExpired(System.nanoTime())) {
+            misses.increment();
+            expire(node);
+            return null;
+        }
+
+        hits.increment();
+
+        // 다른 스레드가 lock 을 잡고 있으면 순서 갱신은 건너뛴다.
+        if (evictionLock.tryLock()) {
+            try {
+                if (node.alive) {
+                    (node.inWindow ? window : main).moveToLast(node);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        return node.value;
+    }
+
+    // 없으면 loader 로 만들어 넣는다. 만드는 도중 무효화(invalidate, invalidateAll)가 일어났다면 결과를 캐시에 넣지 않는다.
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+
+        if (value != null) {
+            return value;
+        }
+
+        long startGeneration = generation;
+        value = loader.apply(key);
+
+        if (value != null) {
+            put(key, value, ttlNanos, startGeneration);
+        }
+
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, ttlNanos, generation);
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        put(key, value, ttl.toNanos(), generation);
+    }
+
+    // 직접 읽어 와서 넣는 경우, 읽기 전에 generation() 을 받아 두고 넘긴다.
+    // 그 사이에 무효화가 있었다면 읽은 값이 이미 낡았을 수 있으므로 넣지 않는다.
+    public void put(K key, V value, long expectedGeneration) {
+        put(key, value, ttlNanos, expectedGeneration);
+    }
+
+    public void put(K key, V value, Duration ttl, long expectedGeneration) {
+        put(key, value, ttl.toNanos(), expectedGeneration);
+    }
+
+    // 무효화될 때마다 바뀐다.
+    public long generation() {
+        return generation;
+    }
+
+    private void put(K key, V value, long ttlNanos, long expectedGeneration) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+
+        long weight = weigher.applyAsLong(value);
+        Node<K, V> node = new Node<>(key, value, weight, System.nanoTime() + ttlNanos);
+
+        evictionLock.lock();
+
+        try {
+            if (expectedGeneration != generation) {
+                return;
+            }
+
+            removeNode(data.get(key));
+
+            if (weight > maximumWeight - windowMaximum) {
+                rejections.increment();
+                return;
+            }
+
+            node.inWindow = true;
+            data.put(key, node);
+            window.addLast(node);
+
+            while (window.weight > windowMaximum && window.head != null) {
+                Node<K, V> candidate = window.head;
+                window.unlink(candidate);
+                admit(candidate);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // window 에서 밀려난 후보를 main 에 넣을지 결정
+    private void admit(Node<K, V> candidate) {
+        candidate.inWindow = false;
+
+        long mainMaximum = maximumWeight - windowMaximum;
+        int candidateFrequency = sketch.frequency(candidate.key);
+        long now = System.nanoTime();
+
+        while (main.weight + candidate.weight > mainMaximum && main.head != null) {
+            Node<K, V> victim = main.head;
+
+            if (!victim.isExpired(now) && sketch.frequency(victim.key) >= candidateFrequency) {
+                candidate.alive = false;
+                data.remove(candidate.key, candidate);
+                rejections.increment();
+                return;
+            }
+
+            main.unlink(victim);
+            victim.alive = false;
+            data.remove(victim.key, victim);
+            evictions.increment();
+        }
+
+        main.addLast(candidate);
+    }
+
+    // 어느 키가 무효화되어도 generation 을 올린다. 읽는 중이던 다른 키의 값도 버려지지만, 다음 조회에서 다시 채워진다.
+    public void invalidate(K key) {
+        evictionLock.lock();
+
+        try {
+            generation++;
+            Node<K, V> node = data.get(key);
+
+            if (node != null) {
+                removeNode(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void expire(Node<K, V> node) {
+        evictionLock.lock();
+
+        try {
+            removeNode(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // 조건에 맞는 항목만 지운다. 항목 수만큼 훑으므로 자주 부르지 말 것
+    public void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        evictionLock.lock();
+
+        try {
+            generation++;
+
+            for (Node<K, V> node : data.values()) {
+                if (predicate.test(node.key, node.value)) {
+                    removeNode(node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+
+        try {
+            generation++;
+            data.clear();
+            window.clear();
+            main.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removeNode(Node<K, V> node) {
+        if (node == null || !node.alive) {
+            return;
+        }
+
+        node.alive = false;
+        data.remove(node.key, node);
+        (node.inWindow ? window : main).unlink(node);
+    }
+
+    public Stats stats() {
+        evictionLock.lock();
+
+        try {
+            return new Stats(
+                    hits.sum(),
+                    misses.sum(),
+                    evictions.sum(),
+                    rejections.sum(),
+                    data.size(),
+                    window.weight + main.weight,
+                    maximumWeight
+            );
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.spring_doc.standard.pool;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+// 스레드에 묶지 않는 작은 객체 풀. Mac, MessageDigest 처럼 만들기 비싸고 스레드 안전하지 않은 객체를 돌려 쓴다.
+// ThreadLocal 은 가상 스레드(요청마다 새 스레드)에서는 매번 새로 만들게 되므로 대신 쓴다.
+// 슬롯마다 CAS 로 꺼내고 넣으며, 비어 있으면 새로 만들고 꽉 차 있으면 돌려받은 것을 버린다.
+public final class ObjectPool<T> {
+
+    private final Supplier<T> factory;
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    // 동시에 CPU 를 쓰는 스레드 수(= 캐리어 스레드 수) 정도면 충분하다.
+    public ObjectPool(Supplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors() * 2, factory);
+    }
+
+    public ObjectPool(int size, Supplier<T> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+
+        int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+
+        this.factory = factory;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public T borrow() {
+        int start = probe();
+
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            T value = slots.get(index);
+
+            if (value != null && slots.compareAndSet(index, value, null)) {
+                return value;
+            }
+        }
+
+        return factory.get();
+    }
+
+    // 쓰다가 예외가 나서 상태를 알 수 없는 객체는 돌려주지 말 것
+    public void release(T value) {
+        int start = probe();
+
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+
+            if (slots.get(index) == null && slots.compareAndSet(index, null, value)) {
+                return;
+            }
+        }
+    }
+
+    // 스레드마다 다른 슬롯부터 찾아서 충돌을 줄인다.
+    private static int probe() {
+        return (int) Thread.currentThread().threadId();
+    }
+}
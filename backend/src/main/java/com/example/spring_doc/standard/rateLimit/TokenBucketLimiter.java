@@ -0,0 +1,144 @@
+package com.example.spring_doc.standard.rateLimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 키별 토큰 버킷. 버킷 상태(남은 토큰 수, 마지막 충전 시각)를 long 하나에 담아 CAS 로 갱신하므로 lock 이 없다.
+// 버킷은 키 해시로 나눈 stripe 에 보관하고, stripe 마다 정해진 간격으로 가득 찬(= 오래 안 쓰인) 버킷을 지운다.
+// 가득 찬 버킷은 없는 버킷과 같으므로 지워도 결과가 달라지지 않는다.
+public class TokenBucketLimiter {
+
+    private static final int TIME_BITS = 42; // 시작 시각 기준 ms, 약 139년
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long MAX_CAPACITY = (1L << (Long.SIZE - TIME_BITS)) - 1;
+    private static final int STRIPES = 16;
+
+    private static final class Stripe {
+        final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        final AtomicLong nextSweepAt = new AtomicLong();
+    }
+
+    private final long capacity;
+    private final long refillIntervalMillis; // 토큰 하나가 차는 데 걸리는 시간
+    private final long sweepIntervalMillis;
+    private final long originNanos = System.nanoTime();
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    // capacity 만큼 한꺼번에 허용하고, 이후에는 refillPeriodMillis 동안 capacity 개씩 다시 찬다.
+    public TokenBucketLimiter(long capacity, long refillPeriodMillis) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity 는 1 이상 %d 이하여야 합니다.".formatted(MAX_CAPACITY));
+        }
+
+        this.capacity = capacity;
+        this.refillIntervalMillis = Math.max(1, refillPeriodMillis / capacity);
+        // 비어 있던 버킷이 가득 차는 시간. 이보다 자주 훑을 필요는 없다.
+        this.sweepIntervalMillis = Math.max(1000, capacity * refillIntervalMillis);
+
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public boolean tryAcquire(String key) {
+        return acquireOrRetryAfterMillis(key) == 0;
+    }
+
+    // 토큰을 쓰면 0, 없으면 다음 토큰이 찰 때까지 남은 시간(ms, 1 이상). Retry-After 헤더 값을 만들 때 쓴다.
+    public long acquireOrRetryAfterMillis(String key) {
+        return acquireOrRetryAfterMillis(key, nowMillis());
+    }
+
+    boolean tryAcquire(String key, long now) {
+        return acquireOrRetryAfterMillis(key, now) == 0;
+    }
+
+    long acquireOrRetryAfterMillis(String key, long now) {
+        Stripe stripe = stripeOf(key);
+
+        sweepIfDue(stripe, now);
+
+        AtomicLong bucket = stripe.buckets.get(key);
+
+        if (bucket == null) {
+            bucket = stripe.buckets.computeIfAbsent(key, _ -> new AtomicLong(pack(capacity, now)));
+        }
+
+        while (true) {
+            long state = bucket.get();
+            long last = state & TIME_MASK;
+            long refill = Math.max(0, now - last) / refillIntervalMillis;
+            long available = Math.min(capacity, (state >>> TIME_BITS) + refill);
+
+            // 충전된 토큰이 없으니 마지막 충전 후 아직 한 간격이 지나지 않았다.
+            if (available == 0) {
+                return Math.max(1, last + refillIntervalMillis - now);
+            }
+
+            // 가득 찼으면 시각을 지금으로 맞추고, 아니면 충전에 쓴 시간만큼만 옮겨 남은 자투리 시간을 잃지 않는다.
+            long updatedAt = available == capacity ? Math.max(now, last) : last + refill * refillIntervalMillis;
+
+            if (bucket.compareAndSet(state, pack(available - 1, updatedAt))) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+
+        return size;
+    }
+
+    private void sweepIfDue(Stripe stripe, long now) {
+        long nextSweepAt = stripe.nextSweepAt.get();
+
+        if (now < nextSweepAt || !stripe.nextSweepAt.compareAndSet(nextSweepAt, now + sweepIntervalMillis)) {
+            return;
+        }
+
+        sweep(stripe, now);
+    }
+
+    // 간격과 상관없이 모든 stripe 를 지금 훑는다. (테스트용)
+    void sweep(long now) {
+        for (Stripe stripe : stripes) {
+            sweep(stripe, now);
+        }
+    }
+
+    private void sweep(Stripe stripe, long now) {
+        for (Map.Entry<String, AtomicLong> entry : stripe.buckets.entrySet()) {
+            if (isFull(entry.getValue().get(), now)) {
+                // 그 사이 토큰을 쓴 버킷은 남긴다. 지우는 순간 이미 버킷을 꺼내 간 요청이 있으면 토큰 하나가 더 허용될 뿐이다.
+                stripe.buckets.computeIfPresent(entry.getKey(), (_, bucket) -> isFull(bucket.get(), now) ? null : bucket);
+            }
+        }
+    }
+
+    private boolean isFull(long state, long now) {
+        long last = state & TIME_MASK;
+        long refill = Math.max(0, now - last) / refillIntervalMillis;
+
+        return (state >>> TIME_BITS) + refill >= capacity;
+    }
+
+    private Stripe stripeOf(String key) {
+        int h = key.hashCode();
+
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private long nowMillis() {
+        return (System.nanoTime() - originNanos) / 1_000_000;
+    }
+
+    private static long pack(long tokens, long time) {
+        return (tokens << TIME_BITS) | (time & TIME_MASK);
+    }
+}
@@ -197,10 +197,43 @@ class ApiV1MemberControllerTest {
                 .andExpect(handler().handlerType(ApiV1MemberController.class))
                 .andExpect(handler().methodName("login"))
                 .andExpect(jsonPath("$.code").value("401-1"))
-                .andExpect(jsonPath("$.msg").value("비밀번호가 일치하지 않습니다."));
+                .andExpect(jsonPath("$.msg").value("비밀번호가 일치하지 않습니다."))
+                .andExpect(cookie().doesNotExist("accessToken"));
 
     }
 
+    @Test
+    @DisplayName("로그인 - 평문으로 저장된 비밀번호는 로그인하면서 해시로 바뀐다")
+    void login6() throws Exception {
+
+        Member member = memberService.findByUsername("user1").get();
+        assertThat(member.getPassword()).startsWith("{bcrypt}");
+
+        member.setPassword("legacy1234");
+
+        loginRequest("user1", "legacy1234")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"));
+
+        assertThat(memberService.findByUsername("user1").get().getPassword()).startsWith("{bcrypt}");
+        assertThat(memberService.checkPassword(member, "legacy1234")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인 - { 로 시작하는 평문 비밀번호도 평문으로 비교하고 해시로 바꾼다")
+    void login7() throws Exception {
+
+        Member member = memberService.findByUsername("user1").get();
+        member.setPassword("{legacy}1234");
+
+        loginRequest("user1", "{legacy}1234")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"));
+
+        assertThat(memberService.findByUsername("user1").get().getPassword()).startsWith("{bcrypt}");
+        assertThat(memberService.checkPassword(member, "{legacy}1234")).isTrue();
+    }
+
     @Test
     @DisplayName("로그인 실패 - 존재하지 않는 아이디")
     void login3() throws Exception {
@@ -315,6 +348,23 @@ class ApiV1MemberControllerTest {
         checkMember(resultActions, loginedMember);
     }
 
+    @Test
+    @DisplayName("내 정보 조회 - 만료된 토큰으로 연달아 요청하면 같은 토큰을 재발급")
+    void me4() throws Exception {
+        String expiredToken = loginedMember.getApiKey() + " 11";
+
+        String accessToken1 = meRequest(expiredToken)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie("accessToken").getValue();
+
+        String accessToken2 = meRequest(expiredToken)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie("accessToken").getValue();
+
+        assertThat(accessToken1).isEqualTo(accessToken2);
+        assertThat(memberService.getMemberByAccessToken(accessToken1).get().getId()).isEqualTo(loginedMember.getId());
+    }
+
     @Test
     @DisplayName("로그아웃")
     void logout() throws Exception {
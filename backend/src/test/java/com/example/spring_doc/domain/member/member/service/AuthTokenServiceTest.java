@@ -1,7 +1,9 @@
 package com.example.spring_doc.domain.member.member.service;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
+import com.example.spring_doc.domain.member.member.entity.MemberRole;
 import com.example.spring_doc.standard.Ut;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -80,4 +82,78 @@ public class AuthTokenServiceTest {
                 Map.of("id", member.getId(), "username", member.getUsername())
         );
     }
+
+    @Test
+    @DisplayName("검증된 토큰은 다시 검증하지 않고 캐시에서 꺼낸다")
+    void verifiedTokenCache() {
+        Member member = memberService.findByUsername("user1").get();
+        String accessToken = authTokenService.genAccessToken(member);
+
+        Ut.Jwt.AccessTokenClaims first = authTokenService.getAccessTokenClaims(accessToken);
+        Ut.Jwt.AccessTokenClaims second = authTokenService.getAccessTokenClaims(accessToken);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 payload 를 주지 않는다")
+    void invalidToken() {
+        Member member = memberService.findByUsername("user1").get();
+        String accessToken = authTokenService.genAccessToken(member);
+        String forged = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        assertThat(authTokenService.getPayload(forged)).isNull();
+    }
+
+    @Test
+    @DisplayName("JJWT 로 직접 만든 토큰도 access token 으로 읽는다")
+    void legacyAccessToken() {
+        String accessToken = Ut.Jwt.createToken(keyString, expireSeconds, Map.of("id", 7L, "username", "user7", "r", 0));
+
+        Ut.Jwt.AccessTokenClaims claims = Ut.Jwt.parseAccessToken(keyString, accessToken);
+
+        assertThat(claims.id()).isEqualTo(7);
+        assertThat(claims.username()).isEqualTo("user7");
+        assertThat(claims.expiresAt() - claims.issuedAt()).isEqualTo(expireSeconds);
+    }
+
+    @Test
+    @DisplayName("만료된 access token 은 거절")
+    void expiredAccessToken() {
+        String accessToken = Ut.Jwt.createAccessToken(keyString, -1, 7, "user7", 0);
+
+        assertThat(Ut.Jwt.parseAccessToken(keyString, accessToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 시각(exp)이 없는 access token 은 거절")
+    void accessTokenWithoutExpiration() {
+        String accessToken = Jwts.builder()
+                .claims(Map.of("id", 7L, "username", "user7", "r", 0))
+                .signWith(Keys.hmacShaKeyFor(keyString.getBytes()))
+                .compact();
+
+        assertThat(Ut.Jwt.parseAccessToken(keyString, accessToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("access token 에 역할이 담긴다")
+    void accessTokenRoles() {
+        Member admin = memberService.findByUsername("admin").get();
+        Member user1 = memberService.findByUsername("user1").get();
+
+        Ut.Jwt.AccessTokenClaims adminClaims = authTokenService.getAccessTokenClaims(authTokenService.genAccessToken(admin));
+        Ut.Jwt.AccessTokenClaims userClaims = authTokenService.getAccessTokenClaims(authTokenService.genAccessToken(user1));
+
+        assertThat(MemberRole.ADMIN.isIn(adminClaims.roles())).isTrue();
+        assertThat(MemberRole.ADMIN.isIn(userClaims.roles())).isFalse();
+    }
+
+    @Test
+    @DisplayName("역할(r)이 없는 토큰은 거절")
+    void accessTokenWithoutRoles() {
+        String accessToken = Ut.Jwt.createToken(keyString, expireSeconds, Map.of("id", 7L, "username", "user7"));
+
+        assertThat(Ut.Jwt.parseAccessToken(keyString, accessToken)).isNull();
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.spring_doc.domain.member.member.service;
+
+import com.example.spring_doc.domain.member.member.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MemberServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberApiKeyCache memberApiKeyCache;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 캐시 무효화는 커밋 후에 일어나므로 트랜잭션 없이 실행하고, 바꾼 닉네임은 되돌린다.
+    @Test
+    @DisplayName("회원 정보가 바뀌면 스냅샷 캐시와 apiKey 캐시에서 빠진다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void cachesEvictedOnMemberModified() {
+        Member member = memberService.findByUsername("user1").get();
+        long id = member.getId();
+        String apiKey = member.getApiKey();
+        String nickname = member.getNickname();
+
+        // 두 캐시 채움
+        assertThat(memberService.getSnapshot(id).get().nickname()).isEqualTo(nickname);
+        assertThat(memberApiKeyCache.find(apiKey).get().nickname()).isEqualTo(nickname);
+
+        try {
+            setNickname(id, nickname + " 수정");
+
+            assertThat(memberService.getSnapshot(id).get().nickname()).isEqualTo(nickname + " 수정");
+            assertThat(memberService.getSnapshots(List.of(id)).get(id).nickname()).isEqualTo(nickname + " 수정");
+            assertThat(memberApiKeyCache.find(apiKey).get().nickname()).isEqualTo(nickname + " 수정");
+        } finally {
+            setNickname(id, nickname);
+        }
+
+        assertThat(memberService.getSnapshot(id).get().nickname()).isEqualTo(nickname);
+    }
+
+    private void setNickname(long id, String nickname) {
+        transactionTemplate.executeWithoutResult(_ -> memberService.findById(id).get().setNickname(nickname));
+    }
+}
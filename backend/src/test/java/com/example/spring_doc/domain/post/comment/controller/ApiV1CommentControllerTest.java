@@ -3,8 +3,14 @@ package com.example.spring_doc.domain.post.comment.controller;
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.domain.member.member.service.MemberService;
 import com.example.spring_doc.domain.post.comment.entity.Comment;
+import com.example.spring_doc.domain.post.comment.service.CommentService;
 import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.domain.post.post.service.PostDetailCache;
+import com.example.spring_doc.domain.post.post.service.PostListingCache;
 import com.example.spring_doc.domain.post.post.service.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,11 +40,28 @@ class ApiV1CommentControllerTest {
     @Autowired
     PostService postService;
 
+    @Autowired
+    private CommentService commentService;
+
     @Autowired
     private MemberService memberService;
+    @Autowired
+    private PostListingCache postListingCache;
+    @Autowired
+    private PostDetailCache postDetailCache;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Member loginedMember;
     private String token;
 
+    // 테스트는 롤백되지만 캐시는 싱글톤이라 이전 테스트에서 읽은(롤백된) 데이터가 남아 있을 수 있다.
+    @BeforeEach
+    void clearCaches() {
+        postListingCache.invalidateAll();
+        postDetailCache.invalidateAll();
+    }
+
     @BeforeEach
     void login() {
         loginedMember = memberService.findByUsername("user1").get();
@@ -74,6 +98,8 @@ class ApiV1CommentControllerTest {
                 .andExpect(handler().methodName("write"))
                 .andExpect(jsonPath("$.code").value("201-1"))
                 .andExpect(jsonPath("$.msg").value("%d 번 댓글 작성이 완료되었습니다.".formatted(comment.getId())));
+
+        assertThat(postService.getItemMeta(postId).get().commentCount()).isEqualTo(3);
     }
 
     @Test
@@ -104,6 +130,31 @@ class ApiV1CommentControllerTest {
                 .andExpect(handler().methodName("modify"))
                 .andExpect(jsonPath("$.code").value("200-1"))
                 .andExpect(jsonPath("$.msg").value("%d번 댓글이 수정되었습니다.".formatted(commentId)));
+
+        Comment comment = commentService.getItem(postId, commentId).get();
+        assertThat(comment.getContent()).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("댓글 수정 실패 - 없는 댓글")
+    void modify2() throws Exception {
+        long postId = 1;
+        long commentId = 100;
+
+        mvc.perform(
+                        put("/api/v1/posts/%d/comments/%d".formatted(postId, commentId))
+                                .header("Authorization", "Bearer " + token)
+                                .contentType("application/json")
+                                .content("""
+                                        {
+                                            "content": "수정된 댓글 내용"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404-2"))
+                .andExpect(jsonPath("$.msg").value("해당 댓글은 존재하지 않습니다."));
     }
 
     @Test
@@ -125,6 +176,9 @@ class ApiV1CommentControllerTest {
                 .andExpect(handler().methodName("delete"))
                 .andExpect(jsonPath("$.code").value("200-1"))
                 .andExpect(jsonPath("$.msg").value("%d번 댓글이 삭제되었습니다.".formatted(commentId)));
+
+        assertThat(commentService.getItem(postId, commentId)).isEmpty();
+        assertThat(postService.getItemMeta(postId).get().commentCount()).isEqualTo(1);
     }
 
     @Test
@@ -141,9 +195,77 @@ class ApiV1CommentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(handler().handlerType(ApiV1CommentController.class))
                 .andExpect(handler().methodName("getItems"))
-                .andExpect(jsonPath("$.length()").value(2))
-                .andExpect(jsonPath("$.[0].id").value(1))
-                .andExpect(jsonPath("$.[1].id").value(2));
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 커서로 다음 페이지 조회")
+    void items2() throws Exception {
+        long postId = 1;
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments?pageSize=1".formatted(postId))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(1));
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments?pageSize=1&after=1".formatted(postId))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - ETag 가 같으면 페이지를 읽지 않고 304, 댓글이 달리면 200")
+    void itemsNotModified() throws Exception {
+        long postId = 1;
+        String url = "/api/v1/posts/%d/comments?pageSize=1".formatted(postId);
+
+        String etag = mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc.perform(get(url).header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 글 존재 확인과 메타 집계만
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        mvc.perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer " + token)
+                                .contentType("application/json")
+                                .content("""
+                                        {"content": "새 댓글"}
+                                        """)
+                )
+                .andExpect(status().isCreated());
+
+        // 첫 페이지 내용은 그대로지만 글 단위 태그라 다시 내려간다.
+        mvc.perform(get(url).header("If-None-Match", etag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1));
     }
 
 }
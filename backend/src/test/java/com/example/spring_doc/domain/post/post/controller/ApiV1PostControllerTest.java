@@ -2,8 +2,17 @@ package com.example.spring_doc.domain.post.post.controller;
 
 import com.example.spring_doc.domain.member.member.entity.Member;
 import com.example.spring_doc.domain.member.member.service.MemberService;
+import com.example.spring_doc.domain.post.post.dto.PostDto;
 import com.example.spring_doc.domain.post.post.entity.Post;
+import com.example.spring_doc.domain.post.post.service.PostCounters;
+import com.example.spring_doc.domain.post.post.service.PostDetailCache;
+import com.example.spring_doc.domain.post.post.service.PostListingCache;
 import com.example.spring_doc.domain.post.post.service.PostService;
+import com.example.spring_doc.domain.statistics.statistics.service.StatisticsService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,12 +21,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.hamcrest.Matchers.matchesPattern;
@@ -39,10 +53,29 @@ class ApiV1PostControllerTest {
     private PostService postService;
     @Autowired
     private MemberService memberService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PostListingCache postListingCache;
+    @Autowired
+    private PostDetailCache postDetailCache;
+    @Autowired
+    private PostCounters postCounters;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private StatisticsService statisticsService;
 
     private Member loginedMember;
     private String token;
 
+    // 테스트는 롤백되지만 캐시는 싱글톤이라 이전 테스트에서 읽은(롤백된) 데이터가 남아 있을 수 있다.
+    @BeforeEach
+    void clearCaches() {
+        postListingCache.invalidateAll();
+        postDetailCache.invalidateAll();
+    }
+
     @BeforeEach
     void beforeLogin() {
         loginedMember = memberService.findByUsername("user1").get();
@@ -72,16 +105,16 @@ class ApiV1PostControllerTest {
                 .andDo(print());
     }
 
-    private void checkPosts(ResultActions resultActions, List<Post> posts) throws Exception {
+    private void checkPosts(ResultActions resultActions, List<PostDto> posts) throws Exception {
         for (int i = 0; i < posts.size(); i++) {
-            Post post = posts.get(i);
+            PostDto post = posts.get(i);
             resultActions
                     .andExpect(jsonPath("$.data.items[%d]".formatted(i)).exists())
                     .andExpect(jsonPath("$.data.items[%d].id".formatted(i)).value(post.getId()))
                     .andExpect(jsonPath("$.data.items[%d].title".formatted(i)).value(post.getTitle()))
                     .andExpect(jsonPath("$.data.items[%d].content".formatted(i)).doesNotExist())
-                    .andExpect(jsonPath("$.data.items[%d].authorId".formatted(i)).value(post.getAuthor().getId()))
-                    .andExpect(jsonPath("$.data.items[%d].authorName".formatted(i)).value(post.getAuthor().getNickname()))
+                    .andExpect(jsonPath("$.data.items[%d].authorId".formatted(i)).value(post.getAuthorId()))
+                    .andExpect(jsonPath("$.data.items[%d].authorName".formatted(i)).value(post.getAuthorName()))
                     .andExpect(jsonPath("$.data.items[%d].published".formatted(i)).value(post.isPublished()))
                     .andExpect(jsonPath("$.data.items[%d].listed".formatted(i)).value(post.isListed()))
                     .andExpect(jsonPath("$.data.items[%d].createdDate".formatted(i)).value(matchesPattern(post.getCreatedDate().toString().replaceAll("0+$", "") + ".*")))
@@ -108,13 +141,95 @@ class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.currentPageNo").isNumber()) // curPage
                 .andExpect(jsonPath("$.data.totalPages").isNumber()); // totalPages
 
-        Page<Post> postPage = postService.getListedItems(1, 3, SearchKeywordType.TITLE, "");
+        Page<PostDto> postPage = postService.getListedItems(1, 3, SearchKeywordType.TITLE, "");
 
-        List<Post> posts = postPage.getContent();
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
 
     }
 
+    @Test
+    @DisplayName("글 다건 조회 - 엔티티 로딩 없이 쿼리 1번으로 조회")
+    void itemsQueryCount() throws Exception {
+        postListingCache.invalidateAll();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3));
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 같은 요청은 캐시에서 응답, DB 조회 없음")
+    void itemsCached() throws Exception {
+        postListingCache.invalidateAll();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                )
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.items.length()").value(3));
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(postListingCache.stats().hits()).isPositive();
+    }
+
+    @Test
+    @DisplayName("글 수정 - 그 글이 담긴 목록 페이지와 바뀐 필드의 검색 결과만 캐시에서 지운다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void itemsCacheInvalidatedByModify() throws Exception {
+        String page1Url = "/api/v1/posts";
+        String page3Url = "/api/v1/posts?page=3";
+        String titleSearchUrl = "/api/v1/posts?keywordType=title&keyword=축구";
+        String contentSearchUrl = "/api/v1/posts?keywordType=content&keyword=content";
+
+        long postId = ((Number) JsonPath.read(getBody(page1Url), "$.data.items[0].id")).longValue();
+        getBody(page3Url);
+        getBody(titleSearchUrl);
+        getBody(contentSearchUrl);
+
+        Post post = postService.getItem(postId).get();
+        String title = post.getTitle();
+        String content = post.getContent();
+
+        try {
+            transactionTemplate.executeWithoutResult(_ ->
+                    postService.modify(postService.getItem(postId).get(), title, content + " modified"));
+
+            long misses = postListingCache.stats().misses();
+
+            getBody(page3Url);
+            getBody(titleSearchUrl);
+            Assertions.assertThat(postListingCache.stats().misses()).isEqualTo(misses);
+
+            getBody(page1Url);
+            getBody(contentSearchUrl);
+            Assertions.assertThat(postListingCache.stats().misses()).isEqualTo(misses + 2);
+        } finally {
+            transactionTemplate.executeWithoutResult(_ ->
+                    postService.modify(postService.getItem(postId).get(), title, content));
+        }
+    }
+
     @Test
     @DisplayName("글 다건 조회 - 검색 - 제목, 페이징이 되어야 함.")
     void items2() throws Exception {
@@ -145,8 +260,8 @@ class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.totalItems").value(7));
 
 
-        Page<Post> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.TITLE, keyword);
-        List<Post> posts = postPage.getContent();
+        Page<PostDto> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.TITLE, keyword);
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
     }
 
@@ -180,11 +295,118 @@ class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.totalItems").value(7));
 
 
-        Page<Post> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.TITLE, keyword);
-        List<Post> posts = postPage.getContent();
+        Page<PostDto> postPage = postService.getListedItems(page, pageSize, SearchKeywordType.CONTENT, keyword);
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
     }
 
+    @Test
+    @DisplayName("글 다건 조회 - 검색 - 단어 일부로 검색, 비공개 목록 글은 제외")
+    void items4() throws Exception {
+
+        String keywordType = "title";
+        String keyword = "모집";
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts?keywordType=%s&keyword=%s"
+                                .formatted(keywordType, keyword))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.totalItems").value(1))
+                .andExpect(jsonPath("$.data.items[0].title").value("축구 하실분 모집합니다."));
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 검색 - 2-gram 이 모두 있어도 이어진 문자열이 아니면 제외, 한 글자 검색")
+    void items5() throws Exception {
+        // title4 ~ title9 에는 "it", "ti" 가 모두 있지만 "itit" 는 없다.
+        mvc
+                .perform(
+                        get("/api/v1/posts?keywordType=title&keyword=itit")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalItems").value(0));
+
+        mvc
+                .perform(
+                        get("/api/v1/posts?keywordType=title&keyword=축")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalItems").value(1))
+                .andExpect(jsonPath("$.data.items[0].title").value("축구 하실분 모집합니다."));
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 커서, 다음 페이지는 이전 페이지의 마지막 글 다음부터")
+    void itemsByCursor() throws Exception {
+
+        int pageSize = 3;
+
+        ResultActions firstPage = mvc
+                .perform(
+                        get("/api/v1/posts/cursor?pageSize=%d".formatted(pageSize))
+                )
+                .andDo(print());
+
+        firstPage
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItemsByCursor"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.items.length()").value(pageSize))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.hasPrev").value(false))
+                .andExpect(jsonPath("$.data.totalPages").doesNotExist());
+
+        String body = firstPage.andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(body, "$.data.nextCursor");
+
+        // 두 페이지를 한 번에 조회한 결과와 이어지는지 비교 (id 가 연속이라고 가정하지 않음)
+        String twoPagesBody = mvc
+                .perform(get("/api/v1/posts/cursor?pageSize=%d".formatted(pageSize * 2)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        int nextId = JsonPath.read(twoPagesBody, "$.data.items[%d].id".formatted(pageSize));
+
+        ResultActions secondPage = mvc
+                .perform(
+                        get("/api/v1/posts/cursor?pageSize=%d&after=%s".formatted(pageSize, nextCursor))
+                )
+                .andDo(print());
+
+        secondPage
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(pageSize))
+                .andExpect(jsonPath("$.data.items[0].id").value(nextId))
+                .andExpect(jsonPath("$.data.hasPrev").value(true));
+    }
+
+    @Test
+    @DisplayName("글 목록 조회 - 커서, pageSize 가 1보다 작으면 1로 조회")
+    void itemsByCursorPageSizeClamped() throws Exception {
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/cursor?pageSize=0")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.pageSize").value(1))
+                .andExpect(jsonPath("$.data.items.length()").value(1));
+    }
+
     @Test
     @DisplayName("내가 작성한 글 조회 - 검색 페이징이 되어야 함.")
     void mines() throws Exception {
@@ -216,8 +438,8 @@ class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.totalPages").value(2)) // totalPages
                 .andExpect(jsonPath("$.data.totalItems").value(4));
 
-        Page<Post> postPage = postService.getMines(loginedMember, page, pageSize, SearchKeywordType.TITLE, keyword);
-        List<Post> posts = postPage.getContent();
+        Page<PostDto> postPage = postService.getMines(loginedMember, page, pageSize, SearchKeywordType.CONTENT, keyword);
+        List<PostDto> posts = postPage.getContent();
         checkPosts(resultActions, posts);
     }
 
@@ -239,6 +461,122 @@ class ApiV1PostControllerTest {
         checkPost(resultActions, post);
     }
 
+    @Test
+    @DisplayName("글 단건 조회 - 공개글은 두 번째 조회부터 캐시에서 응답")
+    void itemCached() throws Exception {
+        long postId = 4;
+
+        String etag = itemRequest(postId, token)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResultActions resultActions = itemRequest(postId, token);
+
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.msg").value("%d번 글을 조회하였습니다.".formatted(postId)));
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Post post = postService.getItem(postId).get();
+        checkPost(resultActions, post);
+    }
+
+    @Test
+    @DisplayName("글 단건 조회 - ETag 가 같으면 304")
+    void itemNotModified() throws Exception {
+        long postId = 4;
+
+        String etag = itemRequest(postId, token)
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d".formatted(postId))
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - ETag 가 같으면 페이지를 읽지 않고 304")
+    void itemsNotModified() throws Exception {
+        String etag = mvc.perform(get("/api/v1/posts"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // id, 변경 시각, 댓글 수만 조회하는 쿼리 1번
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 캐시가 낡았으면 조건부 요청에서 다시 읽는다")
+    void itemsStaleCacheReloaded() throws Exception {
+        String body = getBody("/api/v1/posts");
+        long postId = ((Number) JsonPath.read(body, "$.data.items[0].id")).longValue();
+        int commentCount = JsonPath.read(body, "$.data.items[0].commentCount");
+
+        String etag = mvc.perform(get("/api/v1/posts"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // 댓글 수는 목록 캐시를 비우지 않는다.
+        postService.writeComment(postService.getItem(postId).get(), loginedMember, "new comment");
+
+        String newEtag = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].commentCount").value(commentCount + 1))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        Assertions.assertThat(newEtag).isNotEqualTo(etag);
+
+        mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("If-None-Match", newEtag)
+                )
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("글 단건 조회 실패 - 없는 글인 경우")
     void item2() throws Exception {
@@ -496,6 +834,103 @@ class ApiV1PostControllerTest {
         Assertions.assertThat(postService.getItem(postId)).isEmpty();
     }
 
+    // 롤백되는 테스트에서는 커밋 후(AFTER_COMMIT) 리스너가 돌지 않으므로 트랜잭션 없이 실제로 커밋하며 확인한다.
+    @Test
+    @DisplayName("글 작성, 수정, 삭제 - 커밋되면 캐시, 검색 색인, 글 개수에 반영")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void writeModifyDeleteCommitted() throws Exception {
+        String keyword = "committed" + System.nanoTime();
+        String searchUrl = "/api/v1/posts?keywordType=title&keyword=%s".formatted(keyword);
+
+        long listedBefore = postCounters.getListed();
+        int totalItemsBefore = totalItems("/api/v1/posts"); // 목록 캐시 채움
+
+        String writeBody = writeRequest(token, keyword + " title", "content")
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long postId = ((Number) JsonPath.read(writeBody, "$.data.id")).longValue();
+
+        try {
+            Assertions.assertThat(postCounters.getListed()).isEqualTo(listedBefore + 1);
+            Assertions.assertThat(totalItems("/api/v1/posts")).isEqualTo(totalItemsBefore + 1);
+            Assertions.assertThat(totalItems(searchUrl)).isEqualTo(1);
+
+            // 상세 캐시 채운 뒤 수정
+            getBody("/api/v1/posts/%d".formatted(postId));
+            modifyReqeust(postId, token, keyword + " modified", "modified content")
+                    .andExpect(status().isOk());
+
+            mvc.perform(get("/api/v1/posts/%d".formatted(postId)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.title").value(keyword + " modified"))
+                    .andExpect(jsonPath("$.data.content").value("modified content"));
+            Assertions.assertThat(totalItems(searchUrl)).isEqualTo(1);
+
+            deleteRequest(postId, token)
+                    .andExpect(status().isOk());
+
+            mvc.perform(get("/api/v1/posts/%d".formatted(postId)))
+                    .andExpect(status().isNotFound());
+            Assertions.assertThat(postCounters.getListed()).isEqualTo(listedBefore);
+            Assertions.assertThat(totalItems("/api/v1/posts")).isEqualTo(totalItemsBefore);
+            Assertions.assertThat(totalItems(searchUrl)).isZero();
+        } finally {
+            transactionTemplate.executeWithoutResult(_ -> postService.getItem(postId).ifPresent(postService::delete));
+        }
+    }
+
+    @Test
+    @DisplayName("글 삭제 - 함께 지워진 댓글 수만큼 통계의 댓글 수가 줄어든다 (커밋 후 반영)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void deleteWithCommentsStatistics() throws Exception {
+        long commentsBefore = statisticsService.getStatistics().commentCount();
+
+        String writeBody = writeRequest(token, "댓글 달린 글", "content")
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        long postId = ((Number) JsonPath.read(writeBody, "$.data.id")).longValue();
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                mvc
+                        .perform(
+                                post("/api/v1/posts/%d/comments".formatted(postId))
+                                        .header("Authorization", "Bearer " + token)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content("""
+                                                {"content": "댓글%d"}
+                                                """.formatted(i))
+                        )
+                        .andExpect(status().isCreated());
+            }
+
+            Assertions.assertThat(statisticsService.getStatistics().commentCount()).isEqualTo(commentsBefore + 2);
+
+            deleteRequest(postId, token)
+                    .andExpect(status().isOk());
+
+            Assertions.assertThat(statisticsService.getStatistics().commentCount()).isEqualTo(commentsBefore);
+        } finally {
+            transactionTemplate.executeWithoutResult(_ -> postService.getItem(postId).ifPresent(postService::delete));
+        }
+    }
+
+    private int totalItems(String url) throws Exception {
+        return JsonPath.read(getBody(url), "$.data.totalItems");
+    }
+
+    private String getBody(String url) throws Exception {
+        return mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
     @Test
     @DisplayName("글 삭제 실패 - no apiKey ")
     void delete2() throws Exception {
@@ -559,9 +994,11 @@ class ApiV1PostControllerTest {
                 .andExpect(handler().methodName("getStatistics"))
                 .andExpect(jsonPath("$.code").value("200-1"))
                 .andExpect(jsonPath("$.msg").value("통계 조회가 완료되었습니다."))
-                .andExpect(jsonPath("$.data.postCount").value(10))
-                .andExpect(jsonPath("$.data.postPublishedCount").value(10))
-                .andExpect(jsonPath("$.data.postListedCount").value(10));
+                .andExpect(jsonPath("$.data.postCount").value(9))
+                .andExpect(jsonPath("$.data.postPublishedCount").value(8))
+                .andExpect(jsonPath("$.data.postListedCount").value(8))
+                .andExpect(jsonPath("$.data.commentCount").value(3))
+                .andExpect(jsonPath("$.data.memberCount").value(5));
 
     }
 
@@ -578,4 +1015,150 @@ class ApiV1PostControllerTest {
                 .andExpect(status().isForbidden());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("글 내보내기 - 관리자는 전체 글을 댓글과 함께 NDJSON 으로 받는다")
+    void export() throws Exception {
+        Member admin = memberService.findByUsername("admin").get();
+
+        MvcResult mvcResult = mvc
+                .perform(
+                        get("/api/v1/adm/posts/export?withComments=true")
+                                .header("Authorization", "Bearer " + memberService.getAuthToken(admin))
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc
+                .perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> lines = body.lines().toList();
+
+        Assertions.assertThat(lines).hasSize((int) postService.count());
+        Assertions.assertThat(JsonPath.<Integer>read(lines.getFirst(), "$.id")).isEqualTo(1);
+        Assertions.assertThat(JsonPath.<List<?>>read(lines.getFirst(), "$.comments")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("글 내보내기 실패 - 관리자가 아닌 경우")
+    void export2() throws Exception {
+        mvc
+                .perform(
+                        get("/api/v1/adm/posts/export")
+                                .header("Authorization", "Bearer " + token)
+                )
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("글 가져오기 - 관리자는 글 배열을 댓글과 함께 한 번에 저장")
+    void importPosts() throws Exception {
+        Member admin = memberService.findByUsername("admin").get();
+        long beforeCount = postService.count();
+
+        mvc
+                .perform(
+                        post("/api/v1/adm/posts/import")
+                                .header("Authorization", "Bearer " + memberService.getAuthToken(admin))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        [
+                                          {"authorId": %d, "title": "가져온 글1", "content": "내용1", "published": true, "listed": true,
+                                           "comments": [{"authorId": %d, "content": "가져온 댓글"}]},
+                                          {"authorId": %d, "title": "가져온 글2", "content": "내용2", "published": false, "listed": false}
+                                        ]
+                                        """.formatted(loginedMember.getId(), admin.getId(), loginedMember.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(handler().methodName("importPosts"))
+                .andExpect(jsonPath("$.code").value("201-1"))
+                .andExpect(jsonPath("$.data.postCount").value(2))
+                .andExpect(jsonPath("$.data.commentCount").value(1))
+                .andExpect(jsonPath("$.data.chunks.length()").value(1));
+
+        Assertions.assertThat(postService.count()).isEqualTo(beforeCount + 2);
+
+        Post post = postService.getLatestItem().get();
+        Assertions.assertThat(post.getTitle()).isEqualTo("가져온 글2");
+    }
+
+    @Test
+    @DisplayName("글 가져오기 실패 - 없는 작성자")
+    void importPosts2() throws Exception {
+        Member admin = memberService.findByUsername("admin").get();
+
+        mvc
+                .perform(
+                        post("/api/v1/adm/posts/import")
+                                .header("Authorization", "Bearer " + memberService.getAuthToken(admin))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        [{"authorId": 100000, "title": "제목", "content": "내용", "published": true, "listed": true}]
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-1"))
+                .andExpect(jsonPath("$.data.failedIndex").value(1))
+                .andExpect(jsonPath("$.data.committedPostCount").value(0));
+    }
+
+    @Test
+    @DisplayName("글 가져오기 실패 - 검증에 실패한 위치와 저장된 건수를 응답")
+    void importPosts3() throws Exception {
+        Member admin = memberService.findByUsername("admin").get();
+        long beforeCount = postService.count();
+
+        mvc
+                .perform(
+                        post("/api/v1/adm/posts/import")
+                                .header("Authorization", "Bearer " + memberService.getAuthToken(admin))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        [
+                                          {"authorId": %d, "title": "제목1", "content": "내용1", "published": true, "listed": true},
+                                          {"authorId": %d, "title": "", "content": "내용2", "published": true, "listed": true}
+                                        ]
+                                        """.formatted(loginedMember.getId(), loginedMember.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("2번째 글의 제목과 내용은 필수입니다."))
+                .andExpect(jsonPath("$.data.failedIndex").value(2))
+                .andExpect(jsonPath("$.data.committedPostCount").value(0))
+                .andExpect(jsonPath("$.data.committedCommentCount").value(0));
+
+        Assertions.assertThat(postService.count()).isEqualTo(beforeCount);
+    }
+
+    @Test
+    @DisplayName("글 가져오기 실패 - JSON 형식이 잘못된 경우 400")
+    void importPosts4() throws Exception {
+        Member admin = memberService.findByUsername("admin").get();
+
+        mvc
+                .perform(
+                        post("/api/v1/adm/posts/import")
+                                .header("Authorization", "Bearer " + memberService.getAuthToken(admin))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        [
+                                          {"authorId": %d, "title": "제목1", "content": "내용1", "published": true, "listed": true},
+                                          {"authorId": "abc", "title":
+                                        """.formatted(loginedMember.getId()))
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-2"))
+                .andExpect(jsonPath("$.data.failedIndex").value(2))
+                .andExpect(jsonPath("$.data.committedPostCount").value(0));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.spring_doc.global.init;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class IdSequenceInitializerTest {
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long nextValue(String sequenceName) {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = ?",
+                Long.class,
+                sequenceName.toUpperCase()
+        );
+    }
+
+    // ALTER SEQUENCE 는 롤백되지 않으므로 트랜잭션 없이 실행하고, 원래 값으로 되돌린다.
+    @Test
+    @DisplayName("IDENTITY 시절 DB 처럼 시퀀스가 기존 id 보다 뒤처져 있으면 max(id) + 1 로 올린다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void restartBehindSequence() {
+        long original = nextValue("post_seq");
+        long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+
+        try {
+            jdbcTemplate.execute("ALTER SEQUENCE post_seq RESTART WITH 1");
+
+            idSequenceInitializer.init();
+
+            assertThat(nextValue("post_seq")).isEqualTo(maxId + 1);
+        } finally {
+            jdbcTemplate.execute("ALTER SEQUENCE post_seq RESTART WITH " + original);
+        }
+    }
+
+    @Test
+    @DisplayName("시퀀스가 이미 앞서 있으면 건드리지 않는다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void keepAheadSequence() {
+        long original = nextValue("post_seq");
+
+        idSequenceInitializer.init();
+
+        assertThat(nextValue("post_seq")).isEqualTo(original);
+    }
+}
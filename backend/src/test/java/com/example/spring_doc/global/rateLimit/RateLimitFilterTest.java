@@ -0,0 +1,115 @@
+package com.example.spring_doc.global.rateLimit;
+
+import com.example.spring_doc.domain.member.member.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 60초에 2개 -> 토큰 하나가 차는 데 30초
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+@TestPropertySource(properties = {
+        "custom.rate-limit.login.capacity=2",
+        "custom.rate-limit.login.refill-seconds=60",
+        "custom.rate-limit.post-write.capacity=2",
+        "custom.rate-limit.post-write.refill-seconds=60"
+})
+class RateLimitFilterTest {
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private MemberService memberService;
+
+    private ResultActions loginRequest(String remoteAddr) throws Exception {
+        return mvc
+                .perform(
+                        post("/api/v1/members/login")
+                                .with(request -> {
+                                    request.setRemoteAddr(remoteAddr);
+                                    return request;
+                                })
+                                .contentType("application/json")
+                                .content("""
+                                        {
+                                            "username": "user1",
+                                            "password": "wrong"
+                                        }
+                                        """)
+                )
+                .andDo(print());
+    }
+
+    private ResultActions writeRequest(String username, String remoteAddr) throws Exception {
+        String token = memberService.getAuthToken(memberService.findByUsername(username).get());
+
+        return mvc
+                .perform(
+                        post("/api/v1/posts")
+                                .with(request -> {
+                                    request.setRemoteAddr(remoteAddr);
+                                    return request;
+                                })
+                                .header("Authorization", "Bearer " + token)
+                                .contentType("application/json")
+                                .content("""
+                                        {
+                                            "title": "title",
+                                            "content": "content",
+                                            "published": true,
+                                            "listed": true
+                                        }
+                                        """)
+                )
+                .andDo(print());
+    }
+
+    private void checkTooManyRequests(ResultActions resultActions) throws Exception {
+        resultActions
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andExpect(jsonPath("$.code").value("429-1"))
+                .andExpect(jsonPath("$.msg").value("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."))
+                .andExpect(jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("로그인 전 요청은 IP 별로 센다")
+    void limitedPerIp() throws Exception {
+        loginRequest("10.0.0.1").andExpect(status().isUnauthorized());
+        loginRequest("10.0.0.1").andExpect(status().isUnauthorized());
+
+        checkTooManyRequests(loginRequest("10.0.0.1"));
+
+        // 다른 IP 는 따로
+        loginRequest("10.0.0.2").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그인한 요청은 회원 별로 센다")
+    void limitedPerMember() throws Exception {
+        writeRequest("user1", "10.0.1.1").andExpect(status().isCreated());
+        writeRequest("user1", "10.0.1.1").andExpect(status().isCreated());
+
+        checkTooManyRequests(writeRequest("user1", "10.0.1.1"));
+
+        // 같은 IP 라도 다른 회원은 따로
+        writeRequest("user2", "10.0.1.1").andExpect(status().isCreated());
+
+        // IP 를 바꿔도 같은 회원은 막힌다.
+        checkTooManyRequests(writeRequest("user1", "10.0.1.2"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.spring_doc.standard.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapLruCacheTest {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] value = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            value[i] = (byte) (seed + i);
+        }
+
+        return value;
+    }
+
+    @Test
+    @DisplayName("여러 블록에 나뉜 값을 블록 경계에 걸친 위치에서도 그대로 읽는다")
+    void read() throws IOException {
+        byte[] text = "héllo".getBytes(StandardCharsets.UTF_8);
+        byte[] value = ByteBuffer.allocate(48)
+                .putLong(0, 0x0102030405060708L)
+                .putLong(12, -2L)
+                .putShort(31, (short) 0x1234)
+                .put(20, text)
+                .array();
+
+        try (OffHeapLruCache<Long> cache = new OffHeapLruCache<>(BLOCK_SIZE * 64, BLOCK_SIZE, 1);
+             OffHeapLruCache<Long>.Lease lease = put(cache, 1L, value)) {
+
+            assertThat(lease.length()).isEqualTo(48);
+            assertThat(lease.getLong(0)).isEqualTo(0x0102030405060708L);
+            assertThat(lease.getLong(12)).isEqualTo(-2L);
+            assertThat(lease.getShort(31)).isEqualTo((short) 0x1234);
+            assertThat(lease.getString(20, text.length)).isEqualTo("héllo");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            lease.writeTo(5, out);
+            assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(value, 5, 48));
+        }
+    }
+
+    private static OffHeapLruCache<Long>.Lease put(OffHeapLruCache<Long> cache, long key, byte[] value) {
+        assertThat(cache.put(key, value)).isTrue();
+
+        return cache.acquire(key);
+    }
+
+    @Test
+    @DisplayName("블록이 모자라면 가장 오래 안 쓰인 항목부터 밀어낸다")
+    void evictLeastRecentlyUsed() {
+        try (OffHeapLruCache<Long> cache = new OffHeapLruCache<>(BLOCK_SIZE * 16, BLOCK_SIZE, 1)) {
+            for (long key = 1; key <= 8; key++) {
+                assertThat(cache.put(key, bytes(BLOCK_SIZE * 2, (int) key))).isTrue();
+            }
+
+            cache.acquire(1L).close();
+            cache.put(9L, bytes(BLOCK_SIZE * 2, 9));
+
+            assertThat(cache.acquire(2L)).isNull();
+
+            try (OffHeapLruCache<Long>.Lease lease = cache.acquire(1L)) {
+                assertThat(lease).isNotNull();
+            }
+
+            assertThat(cache.stats().evictions()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("대여 중인 항목은 무효화되어도 Lease 가 닫힐 때 블록을 회수한다")
+    void freeOnLeaseClose() {
+        try (OffHeapLruCache<Long> cache = new OffHeapLruCache<>(BLOCK_SIZE * 64, BLOCK_SIZE, 1)) {
+            byte[] value = bytes(BLOCK_SIZE, 3);
+            OffHeapLruCache<Long>.Lease lease = put(cache, 1L, value);
+
+            cache.invalidate(1L);
+
+            assertThat(cache.acquire(1L)).isNull();
+            assertThat(cache.stats().usedBytes()).isEqualTo(BLOCK_SIZE);
+
+            byte[] read = new byte[BLOCK_SIZE];
+            lease.copyTo(0, read, 0, BLOCK_SIZE);
+            assertThat(read).isEqualTo(value);
+
+            lease.close();
+            lease.close();
+
+            assertThat(cache.stats().usedBytes()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("구역 수는 2 의 거듭제곱으로 내림하고, 전체 예산은 구역들에 나뉜다")
+    void segments() {
+        try (OffHeapLruCache<Long> cache = new OffHeapLruCache<>(BLOCK_SIZE * 100 + 3, BLOCK_SIZE, 3)) {
+            for (long key = 0; key < 10; key++) {
+                assertThat(cache.put(key, bytes(BLOCK_SIZE, (int) key))).isTrue();
+            }
+
+            for (long key = 0; key < 10; key++) {
+                try (OffHeapLruCache<Long>.Lease lease = cache.acquire(key)) {
+                    assertThat(lease.getLong(0)).isEqualTo(ByteBuffer.wrap(bytes(BLOCK_SIZE, (int) key)).getLong());
+                }
+            }
+
+            OffHeapLruCache.Stats stats = cache.stats();
+            assertThat(stats.size()).isEqualTo(10);
+            assertThat(stats.usedBytes()).isEqualTo(BLOCK_SIZE * 10);
+            assertThat(stats.budgetBytes()).isEqualTo(BLOCK_SIZE * 100);
+        }
+    }
+
+    @Test
+    @DisplayName("구역의 1/8 보다 큰 값은 넣지 않는다")
+    void rejectLarge() {
+        try (OffHeapLruCache<Long> cache = new OffHeapLruCache<>(BLOCK_SIZE * 64, BLOCK_SIZE, 2)) {
+            assertThat(cache.put(1L, bytes(BLOCK_SIZE * 4, 1))).isTrue();
+            assertThat(cache.put(2L, bytes(BLOCK_SIZE * 4 + 1, 2))).isFalse();
+            assertThat(cache.stats().rejections()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.spring_doc.standard.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ObjectPoolTest {
+
+    @Test
+    @DisplayName("비어 있으면 새로 만들고, 돌려받은 것은 다시 빌려준다")
+    void reuse() {
+        AtomicInteger created = new AtomicInteger();
+        ObjectPool<Object> pool = new ObjectPool<>(2, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = pool.borrow();
+        Object second = pool.borrow();
+        assertThat(first).isNotSameAs(second);
+        assertThat(created).hasValue(2);
+
+        pool.release(first);
+        assertThat(pool.borrow()).isSameAs(first);
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("꽉 차 있으면 돌려받은 것을 버린다")
+    void dropWhenFull() {
+        ObjectPool<Object> pool = new ObjectPool<>(1, Object::new);
+        Object first = pool.borrow();
+        Object second = pool.borrow();
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.borrow()).isSameAs(first);
+        assertThat(pool.borrow()).isNotSameAs(second);
+    }
+
+    @Test
+    @DisplayName("size 는 1 이상")
+    void size() {
+        assertThatThrownBy(() -> new ObjectPool<>(0, Object::new)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
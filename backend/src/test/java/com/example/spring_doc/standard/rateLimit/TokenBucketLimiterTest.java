@@ -0,0 +1,132 @@
+package com.example.spring_doc.standard.rateLimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 시각(ms)을 직접 넘겨서 확인한다.
+class TokenBucketLimiterTest {
+
+    @Test
+    @DisplayName("처음에는 capacity 만큼 한꺼번에 허용")
+    void burst() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 3000);
+
+        assertThat(limiter.tryAcquire("a", 0)).isTrue();
+        assertThat(limiter.tryAcquire("a", 0)).isTrue();
+        assertThat(limiter.tryAcquire("a", 0)).isTrue();
+        assertThat(limiter.tryAcquire("a", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키마다 따로 센다")
+    void perKey() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1000);
+
+        assertThat(limiter.tryAcquire("a", 0)).isTrue();
+        assertThat(limiter.tryAcquire("a", 0)).isFalse();
+        assertThat(limiter.tryAcquire("b", 0)).isTrue();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("refillPeriod / capacity 마다 토큰이 하나씩 찬다")
+    void refill() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 3000);
+        exhaust(limiter, "a", 0);
+
+        assertThat(limiter.tryAcquire("a", 999)).isFalse();
+        assertThat(limiter.tryAcquire("a", 1000)).isTrue();
+        assertThat(limiter.tryAcquire("a", 1000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("충전하고 남은 자투리 시간은 다음 충전에 이어진다")
+    void refillKeepsRemainder() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 3000);
+        exhaust(limiter, "a", 0);
+
+        assertThat(limiter.tryAcquire("a", 1500)).isTrue();
+        assertThat(limiter.tryAcquire("a", 1999)).isFalse();
+        assertThat(limiter.tryAcquire("a", 2000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 capacity 이상은 쌓이지 않는다")
+    void refillCappedAtCapacity() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 3000);
+        exhaust(limiter, "a", 0);
+
+        assertThat(limiter.tryAcquire("a", 100_000)).isTrue();
+        assertThat(limiter.tryAcquire("a", 100_000)).isTrue();
+        assertThat(limiter.tryAcquire("a", 100_000)).isTrue();
+        assertThat(limiter.tryAcquire("a", 100_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("capacity 경계 - 1 부터 2^22 - 1 까지")
+    void capacityEdges() {
+        assertThatThrownBy(() -> new TokenBucketLimiter(0, 1000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketLimiter(1L << 22, 1000)).isInstanceOf(IllegalArgumentException.class);
+
+        TokenBucketLimiter one = new TokenBucketLimiter(1, 1000);
+        assertThat(one.tryAcquire("a", 0)).isTrue();
+        assertThat(one.tryAcquire("a", 0)).isFalse();
+        assertThat(one.tryAcquire("a", 1000)).isTrue();
+
+        // 토큰 수가 상위 22비트를 모두 써도 시각과 섞이지 않는다.
+        TokenBucketLimiter max = new TokenBucketLimiter((1L << 22) - 1, 60_000);
+        assertThat(max.tryAcquire("a", 0)).isTrue();
+        assertThat(max.tryAcquire("a", 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("거절되면 다음 토큰이 찰 때까지 남은 시간(ms)을 돌려준다")
+    void retryAfterMillis() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(10, 60_000);
+
+        assertThat(limiter.acquireOrRetryAfterMillis("a", 0)).isZero();
+        exhaust(limiter, "a", 0);
+
+        assertThat(limiter.acquireOrRetryAfterMillis("a", 0)).isEqualTo(6000);
+        assertThat(limiter.acquireOrRetryAfterMillis("a", 4500)).isEqualTo(1500);
+
+        // 자투리 시간이 이어지므로 6000 에 하나가 찬 뒤 다음 토큰은 12000 에 찬다.
+        assertThat(limiter.acquireOrRetryAfterMillis("a", 7000)).isZero();
+        assertThat(limiter.acquireOrRetryAfterMillis("a", 7000)).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 지우고, 지워진 키는 처음 본 키처럼 동작한다")
+    void sweepFullBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 2000);
+
+        for (int i = 0; i < 32; i++) {
+            assertThat(limiter.tryAcquire("idle" + i, 0)).isTrue();
+        }
+        exhaust(limiter, "busy", 0);
+        assertThat(limiter.size()).isEqualTo(33);
+
+        // 아직 아무 버킷도 가득 차지 않았다.
+        limiter.sweep(500);
+        assertThat(limiter.size()).isEqualTo(33);
+
+        // idle 은 한 개가 더 차서 가득, busy 는 한 개만 찬 상태
+        limiter.sweep(1000);
+        assertThat(limiter.size()).isEqualTo(1);
+
+        assertThat(limiter.tryAcquire("busy", 1000)).isTrue();
+        assertThat(limiter.tryAcquire("busy", 1000)).isFalse();
+
+        assertThat(limiter.tryAcquire("idle0", 1000)).isTrue();
+        assertThat(limiter.tryAcquire("idle0", 1000)).isTrue();
+        assertThat(limiter.tryAcquire("idle0", 1000)).isFalse();
+    }
+
+    private void exhaust(TokenBucketLimiter limiter, String key, long now) {
+        while (limiter.tryAcquire(key, now)) {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.spring_doc.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// 인증된 사용자를 요청 처리 범위 동안 ScopedValue 로 들고 있는다.
+// ScopedValue 는 Java 23 에서 preview API 라 -Pvt 로 빌드할 때만 컴파일되고, vt 프로필에서만 NoopSecurityUserCarrier 대신 쓴다.
+// 범위가 끝나면 자동으로 풀리므로 따로 지울 필요가 없다. 다른 스레드(비동기 디스패치 등)에서는 보이지 않는다.
+@Component
+@Primary
+@Profile("vt")
+public class ScopedValueSecurityUserCarrier implements SecurityUserCarrier {
+
+    private static final ScopedValue<SecurityUser> USER = ScopedValue.newInstance();
+
+    // orElse(null) 은 이후 릴리스에서 허용되지 않으므로 isBound 로 확인한다.
+    @Override
+    public SecurityUser get() {
+        return USER.isBound() ? USER.get() : null;
+    }
+
+    @Override
+    public void doFilter(SecurityUser user,
+                         FilterChain filterChain,
+                         ServletRequest request,
+                         ServletResponse response) throws ServletException, IOException {
+        try {
+            ScopedValue.where(USER, user).call(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.spring_doc.global.security;
+
+import com.example.spring_doc.global.Rq;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나에서 현재 사용자를 읽는 비용 비교. 로그인 처리 후 4번(필터, 인자 변환, 서비스 등) 읽는 것을 한 요청으로 본다.
+// 기본 빌드: NoopSecurityUserCarrier -> SecurityContextHolder(ThreadLocal) 에서 Authentication 을 꺼내 principal 을 확인
+// 가상 스레드 빌드: CustomAuthenticationFilter 가 묶어 둔 ScopedValueSecurityUserCarrier 에서 읽음
+// 가상 스레드 모드에서는 요청마다 새 스레드라 ThreadLocal 맵도 요청마다 새로 만들어진다. -t 로 스레드 수를 바꿔 확인할 것
+// ./gradlew jmh -Pvt -Pjmh.includes=SecurityUserCarrierBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityUserCarrierBenchmark {
+
+    private SecurityUserCarrier noop;
+    private SecurityUserCarrier scoped;
+    private Rq noopRq;
+    private Rq scopedRq;
+    private SecurityUser user;
+
+    @Setup
+    public void setup() {
+        noop = new NoopSecurityUserCarrier();
+        scoped = new ScopedValueSecurityUserCarrier();
+        noopRq = new Rq(noop);
+        scopedRq = new Rq(scoped);
+        user = new SecurityUser(1, "user1", "", 0);
+    }
+
+    @Benchmark
+    public long securityContextHolder() throws Exception {
+        return request(noop, noopRq);
+    }
+
+    @Benchmark
+    public long scopedValue() throws Exception {
+        return request(scoped, scopedRq);
+    }
+
+    // 스프링 시큐리티 인가용으로 SecurityContextHolder 도 그대로 채운다. (필터와 같은 경로)
+    private long request(SecurityUserCarrier carrier, Rq rq) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new SecurityUserAuthentication(user));
+
+        try {
+            long[] result = new long[1];
+            carrier.doFilter(user, (_, _) -> result[0] = readFourTimes(rq), null, null);
+
+            return result[0];
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private long readFourTimes(Rq rq) {
+        long sum = 0;
+
+        for (int i = 0; i < 4; i++) {
+            sum += rq.getSecurityUser().getId();
+        }
+
+        return sum;
+    }
+}